@@ -0,0 +1,76 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.dataGenerator.BulkParameterFactory.ParameterType;
+import de.unihannover.se.processSimulation.preCommitPostCommit.DependencyGraphConstellation;
+import de.unihannover.se.processSimulation.preCommitPostCommit.DeveloperEngine;
+import desmoj.core.simulator.EventTreeList;
+
+/**
+ * Compares the run time of a long simulation run with DESMO-J's default event list and with the {@link CalendarEventList}.
+ * The developers are driven by events, so that the benchmark does not need the Quasar agent.
+ * Run with "gradlew jmh".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EventListBenchmark {
+
+    @Param({"SIMPLISTIC", "NO_SUBDIVISION", "REALISTIC", "NO_DEPENDENCIES", "CHAINS", "DIAMONDS"})
+    public DependencyGraphConstellation constellation;
+
+    @Param({"tree", "calendar"})
+    public String eventList;
+
+    private BulkParameterFactory parameters;
+    private EngineSettings engine;
+
+    @Setup
+    public void setUp() {
+        this.engine = EngineSettings.defaultSettings()
+                        .withDeveloperEngine(DeveloperEngine.EVENTS)
+                        .withEventListType(this.eventList.equals("calendar") ? CalendarEventList.class : EventTreeList.class);
+        this.parameters = BulkParameterFactory.forCommercial()
+                        .copyWithChangedParam(ParameterType.DEPENDENCY_GRAPH_CONSTELLATION, this.constellation);
+    }
+
+    @Benchmark
+    public ExperimentResult runLongExperiment() {
+        return DataGenerator.runExperiment(this.engine, this.parameters, ReviewMode.POST_COMMIT, null, "benchmark", 100, 1200);
+    }
+
+}
@@ -0,0 +1,107 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.TimeInstant;
+import desmoj.core.simulator.TimeOperations;
+import desmoj.core.simulator.TimeSpan;
+
+/**
+ * Compares the time calculations of the model core with DESMO-J's time objects (like it was done before) with the
+ * calculations on epsilon ticks: the task switch overhead, the sum of the fix efforts of some review remarks and
+ * a story's cycle time.
+ * Run with "gradlew jmh" and add "-prof gc" to the JMH arguments to see the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TimeCalculationBenchmark {
+
+    static {
+        Experiment.setEpsilon(TimeUnit.SECONDS);
+        Experiment.setReferenceUnit(TimeUnit.HOURS);
+    }
+
+    private TimeSpan maxOverhead;
+    private TimeSpan overheadAfterOneHour;
+    private TaskSwitchOverhead taskSwitchOverhead;
+    private TimeSpan[] fixEfforts;
+    private TimeInstant lastContact;
+    private TimeInstant now;
+    private long lastContactTick;
+    private long nowTick;
+
+    @Setup
+    public void setUp() {
+        this.maxOverhead = new TimeSpan(30, TimeUnit.MINUTES);
+        this.overheadAfterOneHour = new TimeSpan(5, TimeUnit.MINUTES);
+        this.taskSwitchOverhead = new TaskSwitchOverhead(this.maxOverhead, this.overheadAfterOneHour);
+        this.fixEfforts = new TimeSpan[] {
+            new TimeSpan(0.5, TimeUnit.HOURS), new TimeSpan(1.25, TimeUnit.HOURS), new TimeSpan(0.1, TimeUnit.HOURS)
+        };
+        this.lastContact = new TimeInstant(17.5, TimeUnit.HOURS);
+        this.now = new TimeInstant(21.0, TimeUnit.HOURS);
+        this.lastContactTick = this.lastContact.getTimeInEpsilon();
+        this.nowTick = this.now.getTimeInEpsilon();
+    }
+
+    @Benchmark
+    public long timeObjects() {
+        final double s = - new TimeSpan(1, TimeUnit.HOURS).getTimeAsDouble()
+                        / Math.log(1.0 - this.overheadAfterOneHour.getTimeAsDouble() / this.maxOverhead.getTimeAsDouble());
+        final double timeSinceLastTime = this.now.getTimeAsDouble() - this.lastContact.getTimeAsDouble();
+        final TimeSpan overhead = new TimeSpan(this.maxOverhead.getTimeAsDouble() * (1.0 - Math.exp(- timeSinceLastTime / s)));
+
+        TimeSpan timeForFixing = new TimeSpan(0);
+        for (final TimeSpan fixEffort : this.fixEfforts) {
+            timeForFixing = TimeOperations.add(timeForFixing, fixEffort);
+        }
+        final TimeSpan cycleTime = TimeOperations.diff(this.now, this.lastContact);
+        return overhead.getTimeInEpsilon() + timeForFixing.getTimeInEpsilon() + cycleTime.getTimeInEpsilon();
+    }
+
+    @Benchmark
+    public long ticks() {
+        final long overhead = this.taskSwitchOverhead.determineOverhead(this.nowTick - this.lastContactTick);
+
+        long timeForFixing = 0;
+        for (final TimeSpan fixEffort : this.fixEfforts) {
+            timeForFixing += fixEffort.getTimeInEpsilon();
+        }
+        final long cycleTime = this.nowTick - this.lastContactTick;
+        return overhead + timeForFixing + cycleTime;
+    }
+
+}
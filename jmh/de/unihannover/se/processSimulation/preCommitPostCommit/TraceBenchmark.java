@@ -0,0 +1,82 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.dataGenerator.BulkParameterFactory;
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.TimeSpan;
+
+/**
+ * Compares a trace call with eagerly concatenated message (like it was done before) with the trace facade in
+ * {@link PrePostModel}, for an experiment without trace output (like in bulk runs).
+ * Run with "gradlew jmh" and add "-prof gc" to the JMH arguments to see the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TraceBenchmark {
+
+    private PrePostModel model;
+    private Experiment experiment;
+    private TimeSpan timeSpan;
+
+    @Setup
+    public void setUp() {
+        this.model = new PrePostModel("TraceBenchmark", ReviewMode.PRE_COMMIT, BulkParameterFactory.forCommercial(),
+                        false, PrePostModel.NO_AUTOMATIC_RESET);
+        final ArrayList<String> noOutputs = new ArrayList<>();
+        this.experiment = new Experiment("TraceBenchmark", ".", null, noOutputs, noOutputs, noOutputs, noOutputs);
+        this.model.connectToExperiment(this.experiment);
+        this.timeSpan = new TimeSpan(1.5, TimeUnit.HOURS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.experiment.finish();
+    }
+
+    @Benchmark
+    public void concatenatedMessage() {
+        this.model.sendTraceNote("changes state of task " + this.model + " from " + ReviewMode.PRE_COMMIT + " to " + this.timeSpan);
+    }
+
+    @Benchmark
+    public void traceFacade() {
+        this.model.trace(this.model, "changes state of task {} from {} to {}", this.model, ReviewMode.PRE_COMMIT, this.timeSpan);
+    }
+
+}
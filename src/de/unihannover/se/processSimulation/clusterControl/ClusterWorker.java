@@ -49,6 +49,8 @@ public class ClusterWorker {
     public static void main(String[] args) throws Exception {
         final String url = args[0]; //"tcp://TOBI:61616"
         final String ownId = args[1];
+        final int threadCount = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        final boolean reuseExperiments = args.length > 3 && args[3].equals("--reuseExperiments");
 
         String fullOwnId = InetAddress.getLocalHost().getHostName()
                         + "_" + System.getProperty("user.name")
@@ -65,13 +67,13 @@ public class ClusterWorker {
         final Connection connection = connFactory.createConnection();
         try {
             connection.start();
-            performWork(connection, workDir);
+            performWork(connection, workDir, threadCount, reuseExperiments);
         } finally {
             connection.close();
         }
     }
 
-    private static void performWork(Connection connection, File workDir) throws Exception {
+    private static void performWork(Connection connection, File workDir, int threadCount, boolean reuseExperiments) throws Exception {
         final Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
         final MessageProducer logProducer = session.createProducer(session.createQueue(Common.LOG_QUEUE));
         final MessageConsumer workConsumer = session.createConsumer(session.createQueue(Common.WORK_QUEUE));
@@ -99,7 +101,7 @@ public class ClusterWorker {
             final File parameterSetsFile = new File(msgDir, "parameterSets.txt");
             final File resultsFile = new File(msgDir, "results.txt");
             writeInputToMsgDir(message, paramFile, parameterSetsFile);
-            executeRuns(session, logProducer, paramFile, parameterSetsFile, resultsFile);
+            executeRuns(session, logProducer, paramFile, parameterSetsFile, resultsFile, threadCount, reuseExperiments);
             sendResultMessage(session, resultsFile, resultProducer);
             log(session, logProducer, workDir, "finished working on message " + msgId);
         }
@@ -117,9 +119,10 @@ public class ClusterWorker {
         Common.writeToFile(parameterSetsFile, parts[1]);
     }
 
-    private static void executeRuns(Session session, MessageProducer logProducer, File paramFile, File parameterSetsFile, File resultsFile) throws Exception {
+    private static void executeRuns(Session session, MessageProducer logProducer, File paramFile, File parameterSetsFile, File resultsFile,
+                    int threadCount, boolean reuseExperiments) throws Exception {
         final List<ParameterType> paramNames = BulkFileExecutor.readParamNames(paramFile);
-        BulkFileExecutor.executeBulk(paramNames, parameterSetsFile, resultsFile,
+        BulkFileExecutor.executeBulk(paramNames, parameterSetsFile, resultsFile, threadCount, reuseExperiments,
                         e-> log(session, logProducer, paramFile.getParentFile().getParentFile(), "Exception aufgetreten: " + e));
     }
 
@@ -17,8 +17,12 @@
 
 package de.unihannover.se.processSimulation.common;
 
+import java.util.Arrays;
+import java.util.List;
+
 import de.unihannover.se.processSimulation.preCommitPostCommit.DependencyGraphConstellation;
 import desmoj.core.dist.BoolDist;
+import desmoj.core.dist.Distribution;
 import desmoj.core.dist.NumericalDist;
 import desmoj.core.simulator.TimeSpan;
 
@@ -27,7 +31,7 @@ public class Parameters {
     private final NumericalDist<Double> implementationSkillDist;
     private final NumericalDist<Double> reviewSkillDist;
     private final NumericalDist<Double> globalIssueDist;
-    private final BoolDist conflictDist;
+    private final NumericalDist<Double> nonConflictingCommitCountDist;
     private final NumericalDist<Double> implementationTimeDist;
     private final NumericalDist<Double> issuefixTaskOverheadTimeDist;
     private final NumericalDist<Double> reviewRemarkFixTimeDist;
@@ -48,13 +52,12 @@ public class Parameters {
     private final double fixingIssueRateFactor;
     private final double followUpIssueSpawnProbability;
     private final double reviewFixToTaskFactor;
-    private final long genericRandomSeed;
 
     public Parameters(
                     NumericalDist<Double> implementationSkillDist,
                     NumericalDist<Double> reviewSkillDist,
                     NumericalDist<Double> globalIssueDist,
-                    BoolDist conflictDist,
+                    NumericalDist<Double> nonConflictingCommitCountDist,
                     NumericalDist<Double> implementationTimeDist,
                     NumericalDist<Double> issuefixTaskOverheadTimeDist,
                     NumericalDist<Double> reviewRemarkFixTimeDist,
@@ -74,12 +77,11 @@ public class Parameters {
                     double fixingIssueRateFactor,
                     double followUpIssueSpawnProbability,
                     double reviewFixToTaskFactor,
-                    long genericRandomSeed,
                     DependencyGraphConstellation dependencyGraphConstellation) {
         this.implementationSkillDist = implementationSkillDist;
         this.reviewSkillDist = reviewSkillDist;
         this.globalIssueDist = globalIssueDist;
-        this.conflictDist = conflictDist;
+        this.nonConflictingCommitCountDist = nonConflictingCommitCountDist;
         this.implementationTimeDist = implementationTimeDist;
         this.issuefixTaskOverheadTimeDist = issuefixTaskOverheadTimeDist;
         this.reviewRemarkFixTimeDist = reviewRemarkFixTimeDist;
@@ -98,7 +100,6 @@ public class Parameters {
         this.taskSwitchTimeIssueFactor = taskSwitchTimeIssueFactor;
         this.fixingIssueRateFactor = fixingIssueRateFactor;
         this.followUpIssueSpawnProbability = followUpIssueSpawnProbability;
-        this.genericRandomSeed = genericRandomSeed;
         this.reviewFixToTaskFactor = reviewFixToTaskFactor;
         this.internalIssueDist = internalIssueDist;
     }
@@ -127,11 +128,13 @@ public class Parameters {
     }
 
     /**
-     * Liefert die Wahrscheinlichkeit, dass ein Task mit einem anderen Task in Konflikt steht,
-     * unter der Bedingung dass der zweitere während der Arbeit am ersten commitet wurde.
+     * Liefert die Verteilung für die Anzahl der Commits, die ohne Konflikt integriert werden können, bevor ein Commit
+     * in Konflikt steht. Jeder Task steht mit einer festen Wahrscheinlichkeit mit einem anderen Task in Konflikt,
+     * unter der Bedingung dass der zweitere während der Arbeit am ersten commitet wurde. Die Anzahl ist daher geometrisch
+     * verteilt (die Werte der Verteilung müssen abgerundet werden).
      */
-    public BoolDist getConflictDist() {
-        return this.conflictDist;
+    public NumericalDist<Double> getNonConflictingCommitCountDist() {
+        return this.nonConflictingCommitCountDist;
     }
 
     /**
@@ -276,8 +279,26 @@ public class Parameters {
         return this.reviewFixToTaskFactor;
     }
 
-    public long getGenericRandomSeed() {
-        return this.genericRandomSeed;
+    /**
+     * Liefert alle Verteilungen, z.B. um ihnen eigene Zufallszahlen-Ströme zu geben.
+     */
+    public List<Distribution> getDistributions() {
+        return Arrays.asList(
+                        this.implementationSkillDist,
+                        this.reviewSkillDist,
+                        this.globalIssueDist,
+                        this.nonConflictingCommitCountDist,
+                        this.implementationTimeDist,
+                        this.issuefixTaskOverheadTimeDist,
+                        this.reviewRemarkFixTimeDist,
+                        this.globalIssueSuspendTimeDist,
+                        this.issueAssessmentTimeDist,
+                        this.conflictResolutionTimeDist,
+                        this.internalIssueDist,
+                        this.issueActivationTimeDeveloperDist,
+                        this.issueActivationTimeCustomerDist,
+                        this.planningTimeDist,
+                        this.reviewTimeDist);
     }
 
 }
@@ -0,0 +1,115 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.common;
+
+import desmoj.core.dist.UniformRandomGenerator;
+
+/**
+ * Fast random number generator (xoroshiro128++ by Blackman and Vigna) with a family of independent streams:
+ * The streams are identified by a base seed and a name, and their seeds are derived by hashing both with
+ * the SplitMix64 function (see {@link #deriveSeed(long, String)}). So the random numbers of a stream only
+ * depend on its base seed and its name, and not on the order in which the streams are created. This keeps
+ * replications reproducible even when they are run in parallel on several threads or machines.
+ *
+ * Can also be used as the random number generator of a DESMO-J experiment, therefore the no-argument constructor.
+ */
+public final class XoroshiroRandomGenerator implements UniformRandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long s0;
+    private long s1;
+
+    /**
+     * Creates a generator with seed 0.
+     */
+    public XoroshiroRandomGenerator() {
+        this(0);
+    }
+
+    public XoroshiroRandomGenerator(long seed) {
+        this.setSeed(seed);
+    }
+
+    /**
+     * Creates a generator for the stream with the given name that belongs to the given base seed.
+     */
+    public static XoroshiroRandomGenerator forStream(long seed, String streamName) {
+        return new XoroshiroRandomGenerator(deriveSeed(seed, streamName));
+    }
+
+    /**
+     * Returns the seed for the stream with the given name that belongs to the given base seed. Different names
+     * as well as different base seeds (even neighboring ones) result in unrelated seeds.
+     */
+    public static long deriveSeed(long seed, String streamName) {
+        long h = mix(seed + GOLDEN_GAMMA);
+        for (int i = 0; i < streamName.length(); i++) {
+            h = mix(h + GOLDEN_GAMMA + streamName.charAt(i));
+        }
+        return h;
+    }
+
+    /**
+     * The SplitMix64 finalizer. A bijection that scatters neighboring values over the whole value range.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        //the two states are different outputs of a bijection, so they cannot both be zero
+        this.s0 = mix(seed + GOLDEN_GAMMA);
+        this.s1 = mix(seed + 2 * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Returns the next 64 random bits.
+     */
+    public long nextLong() {
+        final long t0 = this.s0;
+        long t1 = this.s1;
+        final long result = Long.rotateLeft(t0 + t1, 17) + t0;
+        t1 ^= t0;
+        this.s0 = Long.rotateLeft(t0, 49) ^ t1 ^ (t1 << 21);
+        this.s1 = Long.rotateLeft(t1, 28);
+        return result;
+    }
+
+    /**
+     * Returns a random number in [0,1), with the full double precision of 53 bits.
+     */
+    @Override
+    public double nextDouble() {
+        return (this.nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Returns a random number in [0,bound). The bias due to the finite number of random bits is
+     * below 2^-32 and therefore negligible.
+     */
+    public int nextInt(int bound) {
+        assert bound > 0;
+        return (int) (((this.nextLong() >>> 32) * bound) >>> 32);
+    }
+
+}
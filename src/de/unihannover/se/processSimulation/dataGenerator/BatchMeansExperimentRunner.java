@@ -0,0 +1,90 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import de.unihannover.se.processSimulation.common.ParametersFactory;
+import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.BatchExperimentRunner;
+
+/**
+ * {@link BatchExperimentRunner} based on {@link DataGenerator}: For every parameter set (not regarding the seed),
+ * review mode and startup duration, a single long run is simulated, see {@link WarmedUpExperiment}. Its startup
+ * phase is simulated once, and every call simulates the next batch of the run (with the length of the measurement
+ * phase) without changing the random number streams. The results depend on the order of the calls, so this runner
+ * must only be used with sequential execution.
+ *
+ * Calls with a result directory or other parameters than {@link BulkParameterFactory} are passed on to
+ * {@link DataGenerator#runExperiment}.
+ */
+public class BatchMeansExperimentRunner implements BatchExperimentRunner, AutoCloseable {
+
+    private final Map<String, WarmedUpExperiment> experiments = new HashMap<>();
+    private final EngineSettings engine;
+
+    public BatchMeansExperimentRunner() {
+        this(EngineSettings.defaultSettings());
+    }
+
+    public BatchMeansExperimentRunner(EngineSettings engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public ExperimentResult runExperiment(
+                    ParametersFactory p, ReviewMode mode, File resultDir, String runId, int workingDaysForStartup, int workingDaysForMeasurement) {
+        if (resultDir != null || !(p instanceof BulkParameterFactory)) {
+            return DataGenerator.runExperiment(this.engine, p, mode, resultDir, runId, workingDaysForStartup, workingDaysForMeasurement);
+        }
+
+        final WarmedUpExperiment exp = this.getExperiment((BulkParameterFactory) p, mode, runId, workingDaysForStartup);
+        synchronized (exp) {
+            return exp.measure(workingDaysForMeasurement);
+        }
+    }
+
+    @Override
+    public String getSetupDescription() {
+        return this.engine + ";batchMeans";
+    }
+
+    private synchronized WarmedUpExperiment getExperiment(BulkParameterFactory p, ReviewMode mode, String runId, int workingDaysForStartup) {
+        final String key = p.toCanonicalParameterString() + ";" + mode + ";" + workingDaysForStartup;
+        WarmedUpExperiment exp = this.experiments.get(key);
+        if (exp == null) {
+            exp = new WarmedUpExperiment(this.engine, p, mode, runId, workingDaysForStartup);
+            this.experiments.put(key, exp);
+        }
+        return exp;
+    }
+
+    /**
+     * Ends all experiments that were started by this runner.
+     */
+    @Override
+    public synchronized void close() {
+        for (final WarmedUpExperiment exp : this.experiments.values()) {
+            exp.finish();
+        }
+        this.experiments.clear();
+    }
+
+}
@@ -0,0 +1,105 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import desmoj.core.dist.ContDist;
+import desmoj.core.dist.UniformRandomGenerator;
+import desmoj.core.simulator.Model;
+
+/**
+ * Base class for continuous distributions that compute their samples in small batches. A batch is computed with
+ * primitive arithmetic in a tight loop and then handed out one sample at a time. The buffered samples are
+ * discarded whenever the random number stream changes (new seed, other generator, reset), so the sequence of
+ * samples only depends on the seed, like for the other DESMO-J distributions.
+ */
+public abstract class BufferedContDist extends ContDist {
+
+    private static final int BUFFER_SIZE = 32;
+
+    private final double[] buffer = new double[BUFFER_SIZE];
+    private int next = BUFFER_SIZE;
+
+    public BufferedContDist(Model owner, String name, boolean showInReport, boolean showInTrace) {
+        super(owner, name, showInReport, showInTrace);
+    }
+
+    /**
+     * Fills the whole given array with new samples. Random numbers have to be obtained with {@link #nextUniform()}.
+     */
+    protected abstract void fill(double[] samples);
+
+    /**
+     * Returns the next number from the uniform random number stream, in [0,1). Regards the antithetic mode.
+     */
+    protected final double nextUniform() {
+        final double u = this.randomGenerator.nextDouble();
+        return this.isAntithetic() ? 1.0 - u : u;
+    }
+
+    /**
+     * Returns the next sample as primitive value.
+     */
+    public final double sampleDouble() {
+        this.incrementObservations();
+        if (this.next == BUFFER_SIZE) {
+            this.fill(this.buffer);
+            this.next = 0;
+        }
+        final double sample = this.buffer[this.next++];
+
+        if (this.currentlySendDebugNotes()) {
+            this.traceLastSample(Double.toString(sample));
+        }
+
+        return sample;
+    }
+
+    @Override
+    public Double sample() {
+        return this.sampleDouble();
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        super.setSeed(seed);
+        this.discardBuffer();
+    }
+
+    @Override
+    public void changeRandomGenerator(UniformRandomGenerator rg) {
+        super.changeRandomGenerator(rg);
+        this.discardBuffer();
+    }
+
+    @Override
+    public void setAntithetic(boolean newAntiStatus) {
+        super.setAntithetic(newAntiStatus);
+        this.discardBuffer();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.discardBuffer();
+    }
+
+    private void discardBuffer() {
+        this.next = BUFFER_SIZE;
+    }
+
+}
@@ -34,6 +34,7 @@ import de.unihannover.se.processSimulation.common.ReviewMode;
 import de.unihannover.se.processSimulation.dataGenerator.BulkParameterFactory.DistributionFactory;
 import de.unihannover.se.processSimulation.dataGenerator.BulkParameterFactory.ParameterType;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.ExperimentRunSummary;
+import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.ExperimentRunner;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.PrePostComparison;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.RealismCheckResult;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.ReviewNoReviewComparison;
@@ -66,8 +67,35 @@ public class BulkFileExecutor {
     }
 
     public static void executeBulk(List<ParameterType> paramNames, File inputFile, File outputFile, Consumer<Exception> exceptionCallback) throws Exception {
+        executeBulk(paramNames, inputFile, outputFile, 1, exceptionCallback);
+    }
+
+    public static void executeBulk(List<ParameterType> paramNames, File inputFile, File outputFile, int threadCount,
+                    Consumer<Exception> exceptionCallback) throws Exception {
+        executeBulk(paramNames, inputFile, outputFile, threadCount, false, exceptionCallback);
+    }
+
+    /**
+     * Executes the simulations for all parameter sets in the input file and writes the results to the output file.
+     * The replications for a single parameter set are executed using the given number of threads.
+     * When reuseExperiments is true, the replications of a parameter set reuse the model and experiment
+     * (see {@link ReusingExperimentRunner}) instead of creating them anew for every replication.
+     */
+    public static void executeBulk(List<ParameterType> paramNames, File inputFile, File outputFile, int threadCount,
+                    boolean reuseExperiments, Consumer<Exception> exceptionCallback) throws Exception {
         Experiment.setCoroutineModel(CoroutineModel.FIBERS);
 
+        if (reuseExperiments) {
+            try (ReusingExperimentRunner runner = new ReusingExperimentRunner()) {
+                executeAll(paramNames, inputFile, outputFile, threadCount, runner, exceptionCallback);
+            }
+        } else {
+            executeAll(paramNames, inputFile, outputFile, threadCount, DataGenerator::runExperiment, exceptionCallback);
+        }
+    }
+
+    private static void executeAll(List<ParameterType> paramNames, File inputFile, File outputFile, int threadCount,
+                    ExperimentRunner runner, Consumer<Exception> exceptionCallback) throws Exception {
         try (BufferedReader r = new BufferedReader(new FileReader(inputFile))) {
             try (Writer output = new FileWriter(outputFile)) {
                 String line;
@@ -75,7 +103,7 @@ public class BulkFileExecutor {
                 while ((line = r.readLine()) != null) {
                     try {
                         final BulkParameterFactory parameters = parseParametersFromLine(paramNames, line);
-                        final ExperimentRun result = executeSingle(parameters, inputLineNbr);
+                        final ExperimentRun result = executeSingle(runner, parameters, inputLineNbr, threadCount);
                         writeResult(result, output);
                     } catch (final Exception e) {
                         e.printStackTrace();
@@ -141,11 +169,11 @@ public class BulkFileExecutor {
         }
     }
 
-    private static ExperimentRun executeSingle(BulkParameterFactory parameters, int lineNumber) {
+    private static ExperimentRun executeSingle(ExperimentRunner runner, BulkParameterFactory parameters, int lineNumber, int threadCount) {
         final ExperimentRunSettings runSettings = ExperimentRunSettings.defaultSettings()
                         .copyWithChangedParam(ExperimentRunParameters.MIN_RUNS, 20.0)
                         .copyWithChangedParam(ExperimentRunParameters.MAX_RUNS, 2000.0);
-        return ExperimentRun.perform(runSettings, DataGenerator::runExperiment, parameters, new SingleRunCallback() {
+        return ExperimentRun.perform(runSettings, runner, parameters, new SingleRunCallback() {
             int runCount = 1;
             @Override
             public void handleResult(ExperimentResult no, ExperimentResult pre, ExperimentResult post) {
@@ -155,7 +183,7 @@ public class BulkFileExecutor {
                                 + ", " + post.getFinishedStoryPoints());
                 this.runCount++;
             }
-        });
+        }, threadCount);
     }
 
     private static void writeResult(ExperimentRun result, Writer output) throws IOException {
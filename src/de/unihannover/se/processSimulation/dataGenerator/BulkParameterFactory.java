@@ -18,6 +18,7 @@
 package de.unihannover.se.processSimulation.dataGenerator;
 
 import java.util.EnumMap;
+import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
 import de.unihannover.se.processSimulation.common.Parameters;
@@ -25,15 +26,10 @@ import de.unihannover.se.processSimulation.common.ParametersFactory;
 import de.unihannover.se.processSimulation.preCommitPostCommit.DependencyGraphConstellation;
 import desmoj.core.dist.BoolDistBernoulli;
 import desmoj.core.dist.ContDist;
-import desmoj.core.dist.ContDistAggregate;
 import desmoj.core.dist.ContDistConstant;
 import desmoj.core.dist.ContDistExponential;
 import desmoj.core.dist.ContDistNormal;
-import desmoj.core.dist.ContDistTriangular;
-import desmoj.core.dist.Distribution;
-import desmoj.core.dist.MersenneTwisterRandomGenerator;
 import desmoj.core.dist.NumericalDist;
-import desmoj.core.dist.Operator;
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeSpan;
 
@@ -320,11 +316,9 @@ public class BulkParameterFactory extends ParametersFactory {
 
     private static final class DistributionBuilder {
 
-        private final MersenneTwisterRandomGenerator seedSource;
         private final Model owner;
 
-        public DistributionBuilder(MersenneTwisterRandomGenerator r, Model owner) {
-            this.seedSource = r;
+        public DistributionBuilder(Model owner) {
             this.owner = owner;
         }
 
@@ -335,7 +329,7 @@ public class BulkParameterFactory extends ParametersFactory {
         public ContDist triangular(String name, double mostProbableValue, double width, double min, double max) {
             assert width <= (max - min);
             if (width == 0.0) {
-                return this.setSeed(new ContDistConstant(this.owner, name, mostProbableValue, true, true));
+                return new ContDistConstant(this.owner, name, mostProbableValue, true, true);
             }
             double lower = mostProbableValue - width / 2.0;
             double upper = mostProbableValue + width / 2.0;
@@ -347,27 +341,34 @@ public class BulkParameterFactory extends ParametersFactory {
                 upper -= lower - min;
                 lower = min;
             }
-            return this.setSeed(new ContDistTriangular(this.owner, name, lower, upper, mostProbableValue, true, true));
+            return new ContDistFastTriangular(this.owner, name, lower, upper, mostProbableValue, true, true);
         }
 
         public ContDistExponential exp(String name, double expectedValue) {
-            return this.setSeed(new ContDistExponential(this.owner, name, expectedValue, true, true));
+            return new ContDistExponential(this.owner, name, expectedValue, true, true);
         }
 
         public ContDist expShift(String name, double mean, double mode) {
-            final ContDistExponential exp = this.setSeed(new ContDistExponential(this.owner, name, mean - mode, false, false));
-            final ContDistConstant shift = new ContDistConstant(this.owner, name + "-shift", mode, false, false);
-            return this.setSeed(new ContDistAggregate(this.owner,
-                            name,
-                            exp,
-                            shift,
-                            Operator.PLUS,
-                            true,
-                            true));
+            return new ContDistShiftedExponential(this.owner, name, mean, mode, true, true);
+        }
+
+        /**
+         * Returns a distribution for the number of failed trials before the first success, when every trial succeeds
+         * with the given probability. Its values have to be rounded down (exponential distribution, whose rounded values are
+         * geometrically distributed).
+         */
+        public ContDist geometric(String name, double probabilityForSuccess) {
+            if (probabilityForSuccess <= 0.0) {
+                return new ContDistConstant(this.owner, name, Double.POSITIVE_INFINITY, true, true);
+            }
+            if (probabilityForSuccess >= 1.0) {
+                return new ContDistConstant(this.owner, name, 0.0, true, true);
+            }
+            return this.exp(name, -1.0 / Math.log(1.0 - probabilityForSuccess));
         }
 
         public BoolDistBernoulli bernoulli(String name, double probabilityForTrue) {
-            return this.setSeed(new BoolDistBernoulli(this.owner, name, probabilityForTrue, true, true));
+            return new BoolDistBernoulli(this.owner, name, probabilityForTrue, true, true);
         }
 
         public ContDistNormal posNormal(String name, double mode) {
@@ -377,22 +378,17 @@ public class BulkParameterFactory extends ParametersFactory {
         public ContDistNormal posNormal(String name, double mode, double stdDevFactor) {
             final ContDistNormal dist = new ContDistNormal(this.owner, name, mode, mode * stdDevFactor, true, true);
             dist.setNonNegative(true);
-            return this.setSeed(dist);
+            return dist;
         }
 
         public ContDistLognormal logNormal(String name, double mean, double mode) {
-            return this.setSeed(ContDistLognormal.createWithMeanAndMode(this.owner, name, true, true, mean, mode));
+            return ContDistLognormal.createWithMeanAndMode(this.owner, name, true, true, mean, mode);
         }
 
 //        public int numberBetween(int lowerInclusive, int upperInclusive) {
 //            return lowerInclusive + this.seedSource.nextInt(upperInclusive - lowerInclusive + 1);
 //        }
 
-        private<T extends Distribution> T setSeed(T dist) {
-            dist.setSeed(nextLong(this.seedSource));
-            return dist;
-        }
-
     }
 
     private BulkParameterFactory() {
@@ -448,8 +444,7 @@ public class BulkParameterFactory extends ParametersFactory {
 
     @Override
     public Parameters create(Model owner) {
-        final MersenneTwisterRandomGenerator r = new MersenneTwisterRandomGenerator(this.seed);
-        final DistributionBuilder b = new DistributionBuilder(r, owner);
+        final DistributionBuilder b = new DistributionBuilder(owner);
         return new Parameters(
                         b.triangular("implementationSkillDist",
                                         this.getParamD(ParameterType.IMPLEMENTATION_SKILL_MODE),
@@ -462,7 +457,7 @@ public class BulkParameterFactory extends ParametersFactory {
                         b.triangularProbability("globalIssueDist",
                                         this.getParamD(ParameterType.GLOBAL_ISSUE_MODE),
                                         this.getParamD(ParameterType.GLOBAL_ISSUE_TRIANGLE_WIDTH)),
-                        b.bernoulli("conflictDist",
+                        b.geometric("nonConflictingCommitCountDist",
                                         this.getParamD(ParameterType.CONFLICT_PROBABILITY)),
                         this.getParamDi(ParameterType.IMPLEMENTATION_TIME_DIST).create(b, "implementationTimeDist",
                                         this.getParamD(ParameterType.IMPLEMENTATION_TIME_MODE) + this.getParamD(ParameterType.IMPLEMENTATION_TIME_MEAN_DIFF),
@@ -507,14 +502,9 @@ public class BulkParameterFactory extends ParametersFactory {
                         this.getParamD(ParameterType.FIXING_ISSUE_RATE_FACTOR),
                         this.getParamD(ParameterType.FOLLOW_UP_ISSUE_SPAWN_PROBABILITY),
                         this.getParamD(ParameterType.REVIEW_FIX_TO_TASK_FACTOR),
-                        nextLong(r),
                         (DependencyGraphConstellation) this.getParam(ParameterType.DEPENDENCY_GRAPH_CONSTELLATION));
     }
 
-    private static long nextLong(MersenneTwisterRandomGenerator r) {
-        return ((long)(r.nextInt(32)) << 32) + r.nextInt(32);
-    }
-
     public BulkParameterFactory copyWithChangedSeed() {
         final BulkParameterFactory copy = this.copy();
         copy.seed++;
@@ -556,6 +546,28 @@ public class BulkParameterFactory extends ParametersFactory {
         this.parameters.put(param, newValue);
     }
 
+    /**
+     * Returns a string that contains the seed and all parameter values in a fixed order. Two factories
+     * with the same canonical string create identical simulation parameters.
+     */
+    public String toCanonicalString() {
+        return "seed=" + this.seed + ";" + this.toCanonicalParameterString();
+    }
+
+    /**
+     * Returns a string that contains all parameter values in a fixed order, but not the seed.
+     */
+    public String toCanonicalParameterString() {
+        final StringBuilder ret = new StringBuilder();
+        for (final Entry<ParameterType, Object> e : this.parameters.entrySet()) {
+            if (ret.length() > 0) {
+                ret.append(';');
+            }
+            ret.append(e.getKey().name()).append('=').append(e.getValue());
+        }
+        return ret.toString();
+    }
+
     @Override
     public long getSeed() {
         return this.seed;
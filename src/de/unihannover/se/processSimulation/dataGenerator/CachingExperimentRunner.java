@@ -0,0 +1,285 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import de.unihannover.se.processSimulation.common.ParametersFactory;
+import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.ExperimentRunner;
+
+/**
+ * Decorator for an {@link ExperimentRunner} that remembers the results of experiments, so that running
+ * the exact same experiment (same parameters, seed, review mode and durations) again is not necessary.
+ * The key of an experiment is a hash of its canonical description, which also contains the {@link #VERSION}
+ * and the setup of the decorated runner (see {@link ExperimentRunner#getSetupDescription()}). The results are kept
+ * in memory (with least recently used eviction) and are appended to an index file, so that they survive a restart.
+ * When the index file contains too many stale entries, it is rewritten with only the current entries. An index file
+ * that was written with another version is discarded.
+ *
+ * Only experiments described by a {@link BulkParameterFactory} and without a result directory are cached,
+ * all other calls are passed on to the decorated runner directly. The same holds for all calls when the decorated runner
+ * does not describe its setup. Results from runs with errors are not cached.
+ */
+public class CachingExperimentRunner implements ExperimentRunner {
+
+    /**
+     * Version of the model and the index file format. Has to be increased whenever a change leads to different
+     * results for the same experiment, so that old results are not taken from the cache anymore.
+     */
+    public static final int VERSION = 2;
+
+    private static final char SEPARATOR = ';';
+    private static final String VERSION_HEADER = "#version" + SEPARATOR + VERSION;
+
+    private final ExperimentRunner decorated;
+    private final File indexFile;
+    private final int maxEntries;
+    private final LinkedHashMap<String, ExperimentResult> cache;
+    private int linesInIndexFile;
+
+    public CachingExperimentRunner(ExperimentRunner decorated, File indexFile, int maxEntries) throws IOException {
+        this.decorated = decorated;
+        this.indexFile = indexFile;
+        this.maxEntries = maxEntries;
+        this.cache = new LinkedHashMap<String, ExperimentResult>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ExperimentResult> eldest) {
+                return this.size() > CachingExperimentRunner.this.maxEntries;
+            }
+        };
+        this.loadIndex();
+    }
+
+    private void loadIndex() throws IOException {
+        if (this.indexFile.exists() && this.readIndex()) {
+            return;
+        }
+        //new index file, or one written by another version whose results could differ
+        this.rewriteIndex();
+    }
+
+    private boolean readIndex() throws IOException {
+        try (BufferedReader r = new BufferedReader(new InputStreamReader(new FileInputStream(this.indexFile), StandardCharsets.UTF_8))) {
+            if (!VERSION_HEADER.equals(r.readLine())) {
+                return false;
+            }
+            String line;
+            while ((line = r.readLine()) != null) {
+                this.linesInIndexFile++;
+                final int keyEnd = line.indexOf(SEPARATOR);
+                if (keyEnd < 0) {
+                    //can happen when the program was killed while writing, ignore
+                    continue;
+                }
+                try {
+                    this.cache.put(line.substring(0, keyEnd), parseResult(line.substring(keyEnd + 1)));
+                } catch (final RuntimeException e) {
+                    //broken line, ignore
+                }
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public ExperimentResult runExperiment(
+                    ParametersFactory p, ReviewMode mode, File resultDir, String runId, int workingDaysForStartup, int workingDaysForMeasurement) {
+        final String setup = this.decorated.getSetupDescription();
+        if (resultDir != null || !(p instanceof BulkParameterFactory) || setup == null) {
+            return this.decorated.runExperiment(p, mode, resultDir, runId, workingDaysForStartup, workingDaysForMeasurement);
+        }
+
+        final String key = determineKey(setup, (BulkParameterFactory) p, mode, workingDaysForStartup, workingDaysForMeasurement);
+        final ExperimentResult cached = this.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final ExperimentResult result = this.decorated.runExperiment(p, mode, resultDir, runId, workingDaysForStartup, workingDaysForMeasurement);
+        if (!result.hadError()) {
+            this.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public String getSetupDescription() {
+        return this.decorated.getSetupDescription();
+    }
+
+    private synchronized ExperimentResult get(String key) {
+        return this.cache.get(key);
+    }
+
+    private synchronized void put(String key, ExperimentResult result) {
+        this.cache.put(key, result);
+        try {
+            if (this.linesInIndexFile >= 2 * this.maxEntries) {
+                this.rewriteIndex();
+            } else {
+                try (Writer w = new OutputStreamWriter(new FileOutputStream(this.indexFile, true), StandardCharsets.UTF_8)) {
+                    writeEntry(w, key, result);
+                }
+                this.linesInIndexFile++;
+            }
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void rewriteIndex() throws IOException {
+        final File tempFile = new File(this.indexFile.getPath() + ".tmp");
+        try (Writer w = new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8)) {
+            w.write(VERSION_HEADER + '\n');
+            for (final Entry<String, ExperimentResult> e : this.cache.entrySet()) {
+                writeEntry(w, e.getKey(), e.getValue());
+            }
+        }
+        Files.move(tempFile.toPath(), this.indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        this.linesInIndexFile = this.cache.size();
+    }
+
+    static String determineKey(
+                    String setup, BulkParameterFactory p, ReviewMode mode, int workingDaysForStartup, int workingDaysForMeasurement) {
+        final String description = VERSION
+                        + SEPARATOR + setup
+                        + SEPARATOR + p.toCanonicalString()
+                        + SEPARATOR + mode
+                        + SEPARATOR + workingDaysForStartup
+                        + SEPARATOR + workingDaysForMeasurement;
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(description.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder ret = new StringBuilder();
+            for (final byte b : hash) {
+                ret.append(String.format("%02x", b));
+            }
+            return ret.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void writeEntry(Writer w, String key, ExperimentResult r) throws IOException {
+        final StringBuilder line = new StringBuilder(key);
+        final Object[] values = {
+            r.getFinishedStoryPoints(),
+            r.getStoryCycleTimeMean(),
+            r.getStoryCycleTimeStdDev(),
+            r.getStartedStoryCount(),
+            r.getFinishedStoryCount(),
+            r.getIssueCountFoundByCustomers(),
+            r.getInvestedPersonHours(),
+            r.getElapsedHours(),
+            r.getWarmUpHours(),
+            r.getWastedTimeTaskSwitch(),
+            r.getConflictCount(),
+            r.getGlobalIssueCount(),
+            r.getAvgImplementationTime(),
+            r.getAvgReviewTime(),
+            r.getAvgRemarkFixingTime(),
+            r.getAvgIssueFixingTime(),
+            r.getAvgIssueAssessmentTime(),
+            r.getAvgPlanningTime(),
+            r.getTotalImplementationTime(),
+            r.getTotalReviewTime(),
+            r.getTotalRemarkFixingTime(),
+            r.getTotalIssueFixingTime(),
+            r.getTotalIssueAssessmentTime(),
+            r.getTotalPlanningTime(),
+            r.getAvgReviewRoundCount(),
+            r.getAvgTimePostToPre(),
+            r.getAvgTimePreToCust(),
+            r.getAvgIssuesInjectedPerReviewRemark(),
+            r.getAvgIssuesInjectedPerIssueTask(),
+            r.getAvgIssuesInjectedPerImplementationTask(),
+            r.getExperimentDuration()
+        };
+        for (final Object value : values) {
+            line.append(SEPARATOR).append(value);
+        }
+        line.append('\n');
+        w.write(line.toString());
+    }
+
+    private static ExperimentResult parseResult(String s) {
+        final List<String> v = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = s.indexOf(SEPARATOR, start)) >= 0) {
+            v.add(s.substring(start, end));
+            start = end + 1;
+        }
+        v.add(s.substring(start));
+        if (v.size() != 31) {
+            throw new IllegalArgumentException("invalid cache entry " + s);
+        }
+        return new ExperimentResult(
+                        Long.parseLong(v.get(0)),
+                        Double.parseDouble(v.get(1)),
+                        Double.parseDouble(v.get(2)),
+                        Long.parseLong(v.get(3)),
+                        Long.parseLong(v.get(4)),
+                        Long.parseLong(v.get(5)),
+                        Long.parseLong(v.get(6)),
+                        Long.parseLong(v.get(7)),
+                        Long.parseLong(v.get(8)),
+                        Double.parseDouble(v.get(9)),
+                        Long.parseLong(v.get(10)),
+                        Long.parseLong(v.get(11)),
+                        Double.parseDouble(v.get(12)),
+                        Double.parseDouble(v.get(13)),
+                        Double.parseDouble(v.get(14)),
+                        Double.parseDouble(v.get(15)),
+                        Double.parseDouble(v.get(16)),
+                        Double.parseDouble(v.get(17)),
+                        Double.parseDouble(v.get(18)),
+                        Double.parseDouble(v.get(19)),
+                        Double.parseDouble(v.get(20)),
+                        Double.parseDouble(v.get(21)),
+                        Double.parseDouble(v.get(22)),
+                        Double.parseDouble(v.get(23)),
+                        Double.parseDouble(v.get(24)),
+                        Double.parseDouble(v.get(25)),
+                        Double.parseDouble(v.get(26)),
+                        Double.parseDouble(v.get(27)),
+                        Double.parseDouble(v.get(28)),
+                        Double.parseDouble(v.get(29)),
+                        Long.parseLong(v.get(30)),
+                        false);
+    }
+
+}
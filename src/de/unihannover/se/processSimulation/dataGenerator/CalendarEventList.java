@@ -0,0 +1,378 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import desmoj.core.simulator.EventList;
+import desmoj.core.simulator.EventNote;
+
+/**
+ * Event list based on a calendar queue (R. Brown, 1988), which needs amortized constant time for insertion and
+ * removal of the first element, instead of logarithmic time like DESMO-J's default {@link desmoj.core.simulator.EventTreeList}.
+ * Can be selected for the experiments with {@link EngineSettings#withEventListType(Class)}.
+ *
+ * All notes with the same point in time are kept together in a {@link TimeGroup}, in exactly the order the default
+ * event list would keep them (descending priority, FIFO for equal priority, and explicit positions for insertBefore/insertAfter).
+ * Therefore, the order of events and with it the simulation results are the same as with the default list.
+ * The calendar only has to order the groups, whose times are unique.
+ */
+public class CalendarEventList extends EventList {
+
+    /**
+     * All notes for a certain point in time, in the order of execution.
+     */
+    private static final class TimeGroup {
+        private final long time;
+        private final List<EventNote> notes = new ArrayList<>(2);
+        //next group in the same bucket, the groups in a bucket are sorted by time
+        private TimeGroup next;
+
+        public TimeGroup(long time) {
+            this.time = time;
+        }
+    }
+
+    private static final int MIN_BUCKET_COUNT = 16;
+    private static final int WIDTH_SAMPLE_SIZE = 25;
+
+    private TimeGroup[] buckets = new TimeGroup[MIN_BUCKET_COUNT];
+    private long bucketWidth = 1;
+    private int groupCount;
+    private int noteCount;
+    //the group with the earliest time, null iff the list is empty
+    private TimeGroup firstGroup;
+
+    @Override
+    public EventNote firstNote() {
+        return this.firstGroup == null ? null : this.firstGroup.notes.get(0);
+    }
+
+    @Override
+    public void insert(EventNote note) {
+        final List<EventNote> notes = this.getOrCreateGroup(timeOf(note)).notes;
+        int index = notes.size();
+        while (index > 0 && notes.get(index - 1).getPriority() < note.getPriority()) {
+            index--;
+        }
+        notes.add(index, note);
+        this.noteCount++;
+    }
+
+    @Override
+    public void insertAfter(EventNote where, EventNote what) {
+        if (timeOf(where) != timeOf(what)) {
+            this.insert(what);
+            return;
+        }
+        final List<EventNote> notes = this.getOrCreateGroup(timeOf(what)).notes;
+        notes.add(indexOf(notes, where) + 1, what);
+        this.noteCount++;
+    }
+
+    @Override
+    public void insertBefore(EventNote where, EventNote what) {
+        if (timeOf(where) != timeOf(what)) {
+            this.insert(what);
+            return;
+        }
+        final List<EventNote> notes = this.getOrCreateGroup(timeOf(what)).notes;
+        notes.add(indexOf(notes, where), what);
+        this.noteCount++;
+    }
+
+    @Override
+    public void insertAsFirst(EventNote note) {
+        this.getOrCreateGroup(timeOf(note)).notes.add(0, note);
+        this.noteCount++;
+    }
+
+    @Override
+    public void insertAsLast(EventNote note) {
+        this.getOrCreateGroup(timeOf(note)).notes.add(note);
+        this.noteCount++;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.noteCount == 0;
+    }
+
+    @Override
+    public EventNote lastNote() {
+        final TimeGroup last = this.findGroupBefore(Long.MAX_VALUE);
+        return last == null ? null : last.notes.get(last.notes.size() - 1);
+    }
+
+    @Override
+    public EventNote nextNote(EventNote origin) {
+        final TimeGroup group = this.findGroup(timeOf(origin));
+        if (group == null) {
+            return null;
+        }
+        final int index = indexOf(group.notes, origin);
+        if (index < 0) {
+            return null;
+        }
+        if (index + 1 < group.notes.size()) {
+            return group.notes.get(index + 1);
+        }
+        final TimeGroup nextGroup = this.findGroupAfter(group.time);
+        return nextGroup == null ? null : nextGroup.notes.get(0);
+    }
+
+    @Override
+    public EventNote prevNote(EventNote origin) {
+        final TimeGroup group = this.findGroup(timeOf(origin));
+        if (group == null) {
+            return null;
+        }
+        final int index = indexOf(group.notes, origin);
+        if (index < 0) {
+            return null;
+        }
+        if (index > 0) {
+            return group.notes.get(index - 1);
+        }
+        final TimeGroup prevGroup = this.findGroupBefore(group.time);
+        return prevGroup == null ? null : prevGroup.notes.get(prevGroup.notes.size() - 1);
+    }
+
+    @Override
+    public boolean remove(EventNote note) {
+        final TimeGroup group = this.findGroup(timeOf(note));
+        if (group == null) {
+            return false;
+        }
+        final int index = indexOf(group.notes, note);
+        if (index < 0) {
+            return false;
+        }
+        this.removeFromGroup(group, index);
+        return true;
+    }
+
+    @Override
+    public EventNote removeFirst() {
+        if (this.firstGroup == null) {
+            return null;
+        }
+        final EventNote first = this.firstGroup.notes.get(0);
+        this.removeFromGroup(this.firstGroup, 0);
+        return first;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder ret = new StringBuilder("CalendarEventList[");
+        for (TimeGroup g = this.firstGroup; g != null; g = this.findGroupAfter(g.time)) {
+            for (final EventNote note : g.notes) {
+                ret.append(note).append(';');
+            }
+        }
+        return ret.append(']').toString();
+    }
+
+    private static long timeOf(EventNote note) {
+        return note.getTime().getTimeInEpsilon();
+    }
+
+    private static int indexOf(List<EventNote> notes, EventNote note) {
+        for (int i = 0; i < notes.size(); i++) {
+            if (notes.get(i) == note) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int bucketIndex(long time) {
+        return (int) ((time / this.bucketWidth) % this.buckets.length);
+    }
+
+    private TimeGroup findGroup(long time) {
+        TimeGroup g = this.buckets[this.bucketIndex(time)];
+        while (g != null && g.time < time) {
+            g = g.next;
+        }
+        return g != null && g.time == time ? g : null;
+    }
+
+    private TimeGroup getOrCreateGroup(long time) {
+        final int index = this.bucketIndex(time);
+        TimeGroup prev = null;
+        TimeGroup g = this.buckets[index];
+        while (g != null && g.time < time) {
+            prev = g;
+            g = g.next;
+        }
+        if (g != null && g.time == time) {
+            return g;
+        }
+
+        final TimeGroup newGroup = new TimeGroup(time);
+        newGroup.next = g;
+        if (prev == null) {
+            this.buckets[index] = newGroup;
+        } else {
+            prev.next = newGroup;
+        }
+        this.groupCount++;
+        if (this.firstGroup == null || time < this.firstGroup.time) {
+            this.firstGroup = newGroup;
+        }
+        if (this.groupCount > 2 * this.buckets.length) {
+            this.resize(2 * this.buckets.length);
+        }
+        return newGroup;
+    }
+
+    private void removeFromGroup(TimeGroup group, int index) {
+        group.notes.remove(index);
+        this.noteCount--;
+        if (!group.notes.isEmpty()) {
+            return;
+        }
+
+        final int bucket = this.bucketIndex(group.time);
+        if (this.buckets[bucket] == group) {
+            this.buckets[bucket] = group.next;
+        } else {
+            TimeGroup prev = this.buckets[bucket];
+            while (prev.next != group) {
+                prev = prev.next;
+            }
+            prev.next = group.next;
+        }
+        group.next = null;
+        this.groupCount--;
+        if (group == this.firstGroup) {
+            this.firstGroup = this.findGroupAfter(group.time);
+        }
+        if (this.buckets.length > MIN_BUCKET_COUNT && 2 * this.groupCount < this.buckets.length) {
+            this.resize(this.buckets.length / 2);
+        }
+    }
+
+    /**
+     * Returns the group with the smallest time that is larger than the given time, or null if there is none.
+     * Looks at the buckets in the order of their time windows, starting with the window containing the given time,
+     * so that it normally only has to look at very few groups.
+     */
+    private TimeGroup findGroupAfter(long time) {
+        if (this.groupCount == 0) {
+            return null;
+        }
+        int index = this.bucketIndex(time);
+        long windowEnd = (time / this.bucketWidth + 1) * this.bucketWidth;
+        for (int i = 0; i < this.buckets.length && windowEnd > 0; i++) {
+            TimeGroup g = this.buckets[index];
+            while (g != null && g.time <= time) {
+                g = g.next;
+            }
+            if (g != null && g.time < windowEnd) {
+                return g;
+            }
+            index = (index + 1) % this.buckets.length;
+            windowEnd += this.bucketWidth;
+        }
+
+        //the next group is far away, search directly
+        TimeGroup best = null;
+        for (final TimeGroup bucket : this.buckets) {
+            for (TimeGroup g = bucket; g != null; g = g.next) {
+                if (g.time > time && (best == null || g.time < best.time)) {
+                    best = g;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the group with the largest time that is smaller than the given time, or null if there is none.
+     * Needs time linear in the size of the list, but is not needed for normal simulation.
+     */
+    private TimeGroup findGroupBefore(long time) {
+        TimeGroup best = null;
+        for (final TimeGroup bucket : this.buckets) {
+            for (TimeGroup g = bucket; g != null && g.time < time; g = g.next) {
+                if (best == null || g.time > best.time) {
+                    best = g;
+                }
+            }
+        }
+        return best;
+    }
+
+    private void resize(int newBucketCount) {
+        final long newWidth = this.estimateBucketWidth();
+        final TimeGroup[] oldBuckets = this.buckets;
+        this.buckets = new TimeGroup[newBucketCount];
+        this.bucketWidth = newWidth;
+        for (final TimeGroup bucket : oldBuckets) {
+            TimeGroup g = bucket;
+            while (g != null) {
+                final TimeGroup next = g.next;
+                this.addToBucket(g);
+                g = next;
+            }
+        }
+    }
+
+    private void addToBucket(TimeGroup group) {
+        final int index = this.bucketIndex(group.time);
+        TimeGroup prev = null;
+        TimeGroup g = this.buckets[index];
+        while (g != null && g.time < group.time) {
+            prev = g;
+            g = g.next;
+        }
+        group.next = g;
+        if (prev == null) {
+            this.buckets[index] = group;
+        } else {
+            prev.next = group;
+        }
+    }
+
+    /**
+     * Estimates a good bucket width from the distances between the earliest groups: The width should be
+     * a small multiple of the average distance between consecutive events.
+     */
+    private long estimateBucketWidth() {
+        if (this.groupCount < 2) {
+            return this.bucketWidth;
+        }
+        TimeGroup g = this.firstGroup;
+        int gaps = 0;
+        while (gaps < WIDTH_SAMPLE_SIZE) {
+            final TimeGroup next = this.findGroupAfter(g.time);
+            if (next == null) {
+                break;
+            }
+            g = next;
+            gaps++;
+        }
+        final long averageGap = (g.time - this.firstGroup.time) / gaps;
+        return Math.max(1, 3 * averageGap);
+    }
+
+}
@@ -0,0 +1,64 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import desmoj.core.simulator.Model;
+
+/**
+ * Implementation of the triangular distribution, sampled with the inverse of the cumulative distribution function.
+ */
+public class ContDistFastTriangular extends BufferedContDist {
+
+    private final double lower;
+    private final double upper;
+    private final double modeProbability;
+    private final double lowerFactor;
+    private final double upperFactor;
+
+    public ContDistFastTriangular(Model owner, String name, double lower, double upper, double mode, boolean showInReport, boolean showInTrace) {
+        super(owner, name, showInReport, showInTrace);
+        assert lower < upper;
+        assert lower <= mode && mode <= upper;
+        this.lower = lower;
+        this.upper = upper;
+        this.modeProbability = (mode - lower) / (upper - lower);
+        this.lowerFactor = (upper - lower) * (mode - lower);
+        this.upperFactor = (upper - lower) * (upper - mode);
+    }
+
+    @Override
+    protected void fill(double[] samples) {
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = this.inverse(this.nextUniform());
+        }
+    }
+
+    private double inverse(double p) {
+        if (p < this.modeProbability) {
+            return this.lower + Math.sqrt(p * this.lowerFactor);
+        } else {
+            return this.upper - Math.sqrt((1.0 - p) * this.upperFactor);
+        }
+    }
+
+    @Override
+    public Double getInverseOfCumulativeProbabilityFunction(double p) {
+        return this.inverse(p);
+    }
+
+}
@@ -17,17 +17,14 @@
 
 package de.unihannover.se.processSimulation.dataGenerator;
 
-import desmoj.core.dist.ContDist;
-import desmoj.core.dist.ContDistNormal;
-import desmoj.core.dist.UniformRandomGenerator;
 import desmoj.core.simulator.Model;
 
 /**
- * Implementation of the log-normal distribution.
+ * Implementation of the log-normal distribution. The underlying normal samples are created with the
+ * {@link ZigguratNormal ziggurat method}.
  */
-public class ContDistLognormal extends ContDist {
+public class ContDistLognormal extends BufferedContDist {
 
-    private ContDistNormal r;
     private final double location;
     private final double scale;
 
@@ -38,34 +35,12 @@ public class ContDistLognormal extends ContDist {
     }
 
     @Override
-    public void setSeed(long seed) {
-        super.setSeed(seed);
-        if (this.r == null) {
-            this.r = new ContDistNormal(this.getModel(), this.getName() + "-NormHelper", 0.0, 1.0, false, false);
-        } else {
-            this.r.setSeed(seed);
+    protected void fill(double[] samples) {
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = Math.exp(this.location + this.scale * ZigguratNormal.sample(this::nextUniform));
         }
     }
 
-    @Override
-    public void changeRandomGenerator(UniformRandomGenerator rg) {
-        super.changeRandomGenerator(rg);
-        this.r.changeRandomGenerator(rg);
-    }
-
-    @Override
-    public Double sample() {
-        this.incrementObservations();
-
-        final Double sample = Math.exp(this.location + this.scale * this.r.sample());
-
-        if (this.currentlySendDebugNotes()) {
-            this.traceLastSample(sample+"");
-        }
-
-        return sample;
-    }
-
     @Override
     public Double getInverseOfCumulativeProbabilityFunction(double p) {
         throw new UnsupportedOperationException();
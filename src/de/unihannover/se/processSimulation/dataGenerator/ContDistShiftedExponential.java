@@ -0,0 +1,56 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import desmoj.core.simulator.Model;
+
+/**
+ * Implementation of an exponential distribution that is shifted so that the mode does not have to be at 0.
+ */
+public class ContDistShiftedExponential extends BufferedContDist {
+
+    private final double shift;
+    private final double scale;
+
+    /**
+     * Creates a shifted exponential distribution with the given mode (= the shift) and mean.
+     */
+    public ContDistShiftedExponential(Model owner, String name, double mean, double mode, boolean showInReport, boolean showInTrace) {
+        super(owner, name, showInReport, showInTrace);
+        assert mean >= mode;
+        this.shift = mode;
+        this.scale = mean - mode;
+    }
+
+    @Override
+    protected void fill(double[] samples) {
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = this.inverse(this.nextUniform());
+        }
+    }
+
+    private double inverse(double p) {
+        return this.shift - this.scale * Math.log(1.0 - p);
+    }
+
+    @Override
+    public Double getInverseOfCumulativeProbabilityFunction(double p) {
+        return this.inverse(p);
+    }
+
+}
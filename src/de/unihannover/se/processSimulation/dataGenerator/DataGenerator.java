@@ -23,32 +23,50 @@ import java.util.concurrent.TimeUnit;
 
 import de.unihannover.se.processSimulation.common.ParametersFactory;
 import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.common.XoroshiroRandomGenerator;
+import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.ExperimentRunner;
 import de.unihannover.se.processSimulation.preCommitPostCommit.PrePostModel;
-import desmoj.core.dist.MersenneTwisterRandomGenerator;
+import desmoj.core.simulator.EventList;
 import desmoj.core.simulator.Experiment;
 import desmoj.core.simulator.TimeInstant;
 
 public class DataGenerator {
 
-    private static final int HOURS_PER_WORKING_DAY = 8;
+    static final int HOURS_PER_WORKING_DAY = 8;
     private static final int TRACE_DAYS = 100;
+    private static final int WARM_UP_CHECK_INTERVAL_DAYS = 25;
+    private static final int MIN_WARM_UP_OBSERVATIONS = 100;
 
     public static ExperimentResult runExperiment(
                     final ParametersFactory p, ReviewMode mode, File resultDir, String runId, int workingDaysForStartup, int workingDaysForMeasurement) {
+        return runExperiment(EngineSettings.defaultSettings(), p, mode, resultDir, runId, workingDaysForStartup, workingDaysForMeasurement);
+    }
+
+    /**
+     * Returns an {@link ExperimentRun.ExperimentRunner} that executes {@link #runExperiment} with the given engine settings.
+     */
+    public static ExperimentRunner runner(EngineSettings engine) {
+        return new ExperimentRunner() {
+            @Override
+            public ExperimentResult runExperiment(
+                    ParametersFactory p, ReviewMode mode, File resultDir, String runId, int workingDaysForStartup, int workingDaysForMeasurement) {
+                return DataGenerator.runExperiment(engine, p, mode, resultDir, runId, workingDaysForStartup, workingDaysForMeasurement);
+            }
+
+            @Override
+            public String getSetupDescription() {
+                return engine.toString();
+            }
+        };
+    }
+
+    public static ExperimentResult runExperiment(EngineSettings engine,
+                    final ParametersFactory p, ReviewMode mode, File resultDir, String runId, int workingDaysForStartup, int workingDaysForMeasurement) {
         final boolean report = resultDir != null;
         final int hoursToReset = workingDaysForStartup * HOURS_PER_WORKING_DAY;
-        final PrePostModel model = new PrePostModel("RealProcessingModel", mode, p, report, hoursToReset);
-        final Experiment exp;
-        if (report) {
-            exp = new Experiment("Experiment" + mode + "_" + runId,
-                        resultDir.getPath(), null, Experiment.DEFAULT_REPORT_OUTPUT_TYPE,
-                        Experiment.DEFAULT_TRACE_OUTPUT_TYPE, Experiment.DEFAULT_ERROR_OUTPUT_TYPE,
-                        Experiment.DEFAULT_DEBUG_OUTPUT_TYPE);
-        } else {
-            exp = new Experiment("Experiment" + mode + "_" + runId,
-                        ".\\dummy", null, noOutputs(), noOutputs(), noOutputs(), noOutputs());
-        }
-        exp.setRandomNumberGenerator(MersenneTwisterRandomGenerator.class);
+        final PrePostModel model = createModel(engine, mode, p, report, hoursToReset);
+        final Experiment exp = createExperiment(engine, "Experiment" + mode + "_" + runId, resultDir);
+        exp.setRandomNumberGenerator(XoroshiroRandomGenerator.class);
         exp.setSeedGenerator(p.getSeed());
         model.connectToExperiment(exp);
 
@@ -67,8 +85,129 @@ public class DataGenerator {
             exp.report();
         }
         exp.finish();
+        model.terminate();
         final long expDuration = System.currentTimeMillis() - expStartTime;
 
+        return createResult(model, p, hoursToReset, relevantRunningHours, expDuration, exp.hasError());
+    }
+
+    /**
+     * Returns an {@link ExperimentRun.ExperimentRunner} that executes {@link #runExperimentWithWarmUpDetection} with the
+     * given engine settings (see {@link ExperimentRunSettings.ExperimentRunParameters#WARM_UP_DETECTION}).
+     */
+    public static ExperimentRunner warmUpDetectionRunner(EngineSettings engine) {
+        return new ExperimentRunner() {
+            @Override
+            public ExperimentResult runExperiment(
+                    ParametersFactory p, ReviewMode mode, File resultDir, String runId, int maxWorkingDaysForStartup, int workingDaysForMeasurement) {
+                return DataGenerator.runExperimentWithWarmUpDetection(
+                                engine, p, mode, resultDir, runId, maxWorkingDaysForStartup, workingDaysForMeasurement);
+            }
+
+            @Override
+            public String getSetupDescription() {
+                return engine + ";warmUpDetection";
+            }
+        };
+    }
+
+    /**
+     * Runs an experiment with automatic detection of the end of the startup phase: The board occupancy and the story points
+     * finished per working day are observed, and as soon as both series have reached a steady state according to the
+     * MSER-5 rule, the statistics are reset and the measurement starts. The given number of working days for startup is
+     * used as an upper limit. The length of the used startup phase is contained in the result.
+     * Can be used as an alternative {@link ExperimentRun.ExperimentRunner}, see {@link #warmUpDetectionRunner}.
+     */
+    public static ExperimentResult runExperimentWithWarmUpDetection(
+                    final ParametersFactory p, ReviewMode mode, File resultDir, String runId, int maxWorkingDaysForStartup, int workingDaysForMeasurement) {
+        return runExperimentWithWarmUpDetection(
+                        EngineSettings.defaultSettings(), p, mode, resultDir, runId, maxWorkingDaysForStartup, workingDaysForMeasurement);
+    }
+
+    public static ExperimentResult runExperimentWithWarmUpDetection(EngineSettings engine,
+                    final ParametersFactory p, ReviewMode mode, File resultDir, String runId, int maxWorkingDaysForStartup, int workingDaysForMeasurement) {
+        final boolean report = resultDir != null;
+        final PrePostModel model = createModel(engine, mode, p, report, PrePostModel.NO_AUTOMATIC_RESET);
+        final Experiment exp = createExperiment(engine, "Experiment" + mode + "_" + runId, resultDir);
+        exp.setRandomNumberGenerator(XoroshiroRandomGenerator.class);
+        exp.setSeedGenerator(p.getSeed());
+        model.connectToExperiment(exp);
+
+        final long expStartTime = System.currentTimeMillis();
+        exp.setSilent(!report);
+        exp.setShowProgressBar(false);
+
+        final MserWarmUpDetector boardOccupancy = new MserWarmUpDetector();
+        final MserWarmUpDetector storyPoints = new MserWarmUpDetector();
+        long lastFinishedStoryPoints = 0;
+        int day = 0;
+        while (day < maxWorkingDaysForStartup) {
+            day++;
+            exp.stop(new TimeInstant(day * HOURS_PER_WORKING_DAY, TimeUnit.HOURS));
+            if (day == 1) {
+                exp.start();
+            } else {
+                exp.proceed();
+            }
+            boardOccupancy.addObservation(model.getBoardOccupancy());
+            final long finishedStoryPoints = model.getFinishedStoryPoints();
+            storyPoints.addObservation(finishedStoryPoints - lastFinishedStoryPoints);
+            lastFinishedStoryPoints = finishedStoryPoints;
+            if (day % WARM_UP_CHECK_INTERVAL_DAYS == 0
+                    && boardOccupancy.isSteadyStateReached(MIN_WARM_UP_OBSERVATIONS)
+                    && storyPoints.isSteadyStateReached(MIN_WARM_UP_OBSERVATIONS)) {
+                break;
+            }
+        }
+        final int hoursToReset = day * HOURS_PER_WORKING_DAY;
+        model.reset();
+
+        final int relevantRunningHours = HOURS_PER_WORKING_DAY * workingDaysForMeasurement;
+        exp.stop(new TimeInstant(hoursToReset + relevantRunningHours, TimeUnit.HOURS));
+        if (day == 0) {
+            exp.start();
+        } else {
+            exp.proceed();
+        }
+        if (report) {
+            model.sortReportables();
+            exp.report();
+        }
+        exp.finish();
+        model.terminate();
+        final long expDuration = System.currentTimeMillis() - expStartTime;
+
+        return createResult(model, p, hoursToReset, relevantRunningHours, expDuration, exp.hasError());
+    }
+
+    static PrePostModel createModel(EngineSettings engine, ReviewMode mode, ParametersFactory p, boolean plot, int hoursToReset) {
+        return new PrePostModel("RealProcessingModel", mode, engine.getDeveloperEngine(), p, plot, hoursToReset);
+    }
+
+    static Experiment createExperiment(EngineSettings engine, String name, File resultDir) {
+        final Experiment exp;
+        if (resultDir != null) {
+            exp = new Experiment(name,
+                        resultDir.getPath(), null, Experiment.DEFAULT_REPORT_OUTPUT_TYPE,
+                        Experiment.DEFAULT_TRACE_OUTPUT_TYPE, Experiment.DEFAULT_ERROR_OUTPUT_TYPE,
+                        Experiment.DEFAULT_DEBUG_OUTPUT_TYPE);
+        } else {
+            exp = new Experiment(name,
+                        ".\\dummy", null, noOutputs(), noOutputs(), noOutputs(), noOutputs());
+        }
+        final Class<? extends EventList> type = engine.getEventListType();
+        if (type != null) {
+            exp.setEventList(type);
+        }
+        return exp;
+    }
+
+    /**
+     * Creates the result object for the current statistics of the given model, i.e. for the time since
+     * the last reset.
+     */
+    static ExperimentResult createResult(
+                    PrePostModel model, ParametersFactory p, int warmUpHours, int relevantRunningHours, long expDuration, boolean hadError) {
         return new ExperimentResult(
                         model.getFinishedStoryPoints(),
                         model.getStoryCycleTimeMean(),
@@ -78,6 +217,7 @@ public class DataGenerator {
                         model.getIssueCountFoundByCustomers(),
                         p.getNumberOfDevelopers() * relevantRunningHours,
                         relevantRunningHours,
+                        warmUpHours,
                         model.getWastedTimeTaskSwitch(),
                         model.getConflictCount(),
                         model.getGlobalIssueCount(),
@@ -100,8 +240,7 @@ public class DataGenerator {
                         model.getAvgIssuesInjectedPerIssueTask(),
                         model.getAvgIssuesInjectedPerImplementationTask(),
                         expDuration,
-                        exp.hasError());
-
+                        hadError);
     }
 
     private static ArrayList<String> noOutputs() {
@@ -0,0 +1,79 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import de.unihannover.se.processSimulation.preCommitPostCommit.DeveloperDriverFactory;
+import de.unihannover.se.processSimulation.preCommitPostCommit.DeveloperEngine;
+import desmoj.core.simulator.EventList;
+
+/**
+ * The technical setup that is used to execute a simulation: The engine for the developers' work and
+ * the type of DESMO-J's event list. The setup does not influence the results, only the speed.
+ * Immutable, use the "with..." methods to get a changed copy.
+ */
+public final class EngineSettings {
+
+    private final DeveloperDriverFactory developerEngine;
+    private final Class<? extends EventList> eventListType;
+
+    private EngineSettings(DeveloperDriverFactory developerEngine, Class<? extends EventList> eventListType) {
+        this.developerEngine = developerEngine;
+        this.eventListType = eventListType;
+    }
+
+    /**
+     * Returns the default setup: Developers as processes and DESMO-J's default event list.
+     */
+    public static EngineSettings defaultSettings() {
+        return new EngineSettings(DeveloperEngine.PROCESSES, null);
+    }
+
+    /**
+     * Returns a copy that uses the given engine for the developers' work, either a {@link DeveloperEngine} or an
+     * engine from another module (see {@link DeveloperEngine#byName}).
+     */
+    public EngineSettings withDeveloperEngine(DeveloperDriverFactory engine) {
+        return new EngineSettings(engine, this.eventListType);
+    }
+
+    /**
+     * Returns a copy that uses the given type of event list, e.g. {@link CalendarEventList}.
+     * When null, DESMO-J's default event list is used.
+     */
+    public EngineSettings withEventListType(Class<? extends EventList> type) {
+        return new EngineSettings(this.developerEngine, type);
+    }
+
+    public DeveloperDriverFactory getDeveloperEngine() {
+        return this.developerEngine;
+    }
+
+    /**
+     * Returns the type of event list, or null if DESMO-J's default shall be used.
+     */
+    public Class<? extends EventList> getEventListType() {
+        return this.eventListType;
+    }
+
+    @Override
+    public String toString() {
+        return "developerEngine=" + this.developerEngine.name()
+            + ";eventList=" + (this.eventListType == null ? "default" : this.eventListType.getName());
+    }
+
+}
@@ -27,6 +27,7 @@ public class ExperimentResult {
     private final long issueCountFoundByCustomers;
     private final long investedPersonHours;
     private final long elapsedHours;
+    private final long warmUpHours;
     private final double wastedTimeTaskSwitch;
     private final long conflictCount;
     private final long globalIssueCount;
@@ -60,6 +61,7 @@ public class ExperimentResult {
                     long issueCountFoundByCustomers,
                     long investedPersonHours,
                     long elapsedHours,
+                    long warmUpHours,
                     double wastedTimeTaskSwitch,
                     long conflictCount,
                     long globalIssueCount,
@@ -91,6 +93,7 @@ public class ExperimentResult {
         this.issueCountFoundByCustomers = issueCountFoundByCustomers;
         this.investedPersonHours = investedPersonHours;
         this.elapsedHours = elapsedHours;
+        this.warmUpHours = warmUpHours;
         this.wastedTimeTaskSwitch = wastedTimeTaskSwitch;
         this.conflictCount = conflictCount;
         this.globalIssueCount = globalIssueCount;
@@ -157,6 +160,18 @@ public class ExperimentResult {
         return this.investedPersonHours;
     }
 
+    public long getElapsedHours() {
+        return this.elapsedHours;
+    }
+
+    /**
+     * Returns the number of simulated hours before the start of the measurement, i.e. the point where the
+     * initial transient has been truncated.
+     */
+    public long getWarmUpHours() {
+        return this.warmUpHours;
+    }
+
     public double getAvgImplementationTime() {
         return this.avgImplementationTime;
     }
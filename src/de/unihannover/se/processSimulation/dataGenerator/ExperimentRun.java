@@ -18,9 +18,15 @@
 package de.unihannover.se.processSimulation.dataGenerator;
 
 import java.io.File;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.ToDoubleFunction;
 
 import de.unihannover.se.processSimulation.common.ParametersFactory;
@@ -141,6 +147,23 @@ public class ExperimentRun {
     public static interface ExperimentRunner {
         public abstract ExperimentResult runExperiment(
                         final ParametersFactory p, ReviewMode mode, File resultDir, String runId, int workingDaysForStartup, int workingDaysForMeasurement);
+
+        /**
+         * Returns a description of the technical setup that is used by this runner to execute the experiments (e.g. the
+         * {@link EngineSettings}). Used to keep results from different setups apart, e.g. in {@link CachingExperimentRunner}.
+         * Null when the setup is unknown, then the results must not be mixed with those of other runners.
+         */
+        public default String getSetupDescription() {
+            return null;
+        }
+    }
+
+    /**
+     * An {@link ExperimentRunner} that can be used for batch means (see {@link ExperimentRunParameters#BATCH_MEANS}).
+     * In batch means mode, the runner is called with the same parameters for every batch, and it has to simulate the next batch
+     * of a single long run for the given review mode instead of simulating an independent new run.
+     */
+    public static interface BatchExperimentRunner extends ExperimentRunner {
     }
 
     public static interface SingleRunCallback {
@@ -206,23 +229,52 @@ public class ExperimentRun {
     private final List<CombinedResult> results = new ArrayList<>();
     private int numberOfTrials;
 
+    //the factors needed to decide whether to stop are kept sorted incrementally, so that the
+    //  adaptive stopping check after each replication does not have to sort all values again
+    private final OrderStatistics shareProductiveWork = new OrderStatistics();
+    private final OrderStatistics factorNoReview = new OrderStatistics();
+    private final OrderStatistics factorStoryPoints = new OrderStatistics();
+    private final OrderStatistics factorIssues = new OrderStatistics();
+    private final OrderStatistics factorCycleTime = new OrderStatistics();
+    private ExperimentRunSummary cachedSummary;
+    private ExperimentRunSummary cachedSignificantSummary;
+
     /**
      * Constructor hidden, create using {@link #perform}.
      */
     private ExperimentRun(ExperimentRunSettings settings) {
         this.settings = settings;
+        StatisticsUtil.precomputeConfidenceRanks(
+                        (int) Math.max(settings.get(ExperimentRunParameters.MIN_RUNS), settings.get(ExperimentRunParameters.MAX_RUNS)),
+                        settings.get(ExperimentRunParameters.CONFIDENCE_P));
     }
 
     private void add(ExperimentResult no, ExperimentResult pre, ExperimentResult post) {
-        this.results.add(new CombinedResult(no, pre, post));
+        final CombinedResult result = new CombinedResult(no, pre, post);
+        this.results.add(result);
+        this.shareProductiveWork.add(result.shareProductiveWork());
+        if (no != null) {
+            this.factorNoReview.add(result.factorNoReview());
+        }
+        this.factorStoryPoints.add(result.factorPrePost(ExperimentResult::getFinishedStoryPoints));
+        this.factorIssues.add(result.factorPrePost(ExperimentResult::getIssueCountFoundByCustomersPerStoryPoint));
+        this.factorCycleTime.add(result.factorPrePost(ExperimentResult::getStoryCycleTimeMeanWithDefault));
+        this.cachedSummary = null;
+        this.cachedSignificantSummary = null;
     }
 
     public ExperimentRunSummary getSummary() {
-        return this.determineSummary(false);
+        if (this.cachedSummary == null) {
+            this.cachedSummary = this.determineSummary(false);
+        }
+        return this.cachedSummary;
     }
 
     public ExperimentRunSummary getSignificantSummary() {
-        return this.determineSummary(true);
+        if (this.cachedSignificantSummary == null) {
+            this.cachedSignificantSummary = this.determineSummary(true);
+        }
+        return this.cachedSignificantSummary;
     }
 
     private ExperimentRunSummary determineSummary(boolean onlySignificant) {
@@ -271,12 +323,12 @@ public class ExperimentRun {
     }
 
     public boolean isSummaryStatisticallySignificant() {
-        return this.determineSummary(false).equals(this.determineSummary(true));
+        return this.getSummary().equals(this.getSignificantSummary());
     }
 
     private boolean stillNeedsNoReviewData() {
-        final ExperimentRunSummary summaryNoSig = this.determineSummary(false);
-        final ExperimentRunSummary summarySig = this.determineSummary(true);
+        final ExperimentRunSummary summaryNoSig = this.getSummary();
+        final ExperimentRunSummary summarySig = this.getSignificantSummary();
         return summaryNoSig.getNoReviewResult() != summarySig.getNoReviewResult();
     }
 
@@ -434,8 +486,7 @@ public class ExperimentRun {
      * I.e. if the result is > 0, post commit review resulted in more story points.
      */
     public MedianWithConfidenceInterval getFactorStoryPoints() {
-        final double[] values = this.results.stream().mapToDouble(x -> x.factorPrePost(ExperimentResult::getFinishedStoryPoints)).toArray();
-        return this.median(values);
+        return this.median(this.factorStoryPoints);
     }
 
     /**
@@ -444,8 +495,7 @@ public class ExperimentRun {
      * I.e. if the result is > 0, post commit review resulted in more remaining issues.
      */
     public MedianWithConfidenceInterval getFactorIssues() {
-        final double[] values = this.results.stream().mapToDouble(x -> x.factorPrePost(ExperimentResult::getIssueCountFoundByCustomersPerStoryPoint)).toArray();
-        return this.median(values);
+        return this.median(this.factorIssues);
     }
 
     /**
@@ -454,8 +504,7 @@ public class ExperimentRun {
      * I.e. if the result is > 0, post commit review had a larger cycle time.
      */
     public MedianWithConfidenceInterval getFactorCycleTime() {
-        final double[] values = this.results.stream().mapToDouble(x -> x.factorPrePost(ExperimentResult::getStoryCycleTimeMeanWithDefault)).toArray();
-        return this.median(values);
+        return this.median(this.factorCycleTime);
     }
 
     public String getMinMaxFactorStoryPoints() {
@@ -489,10 +538,7 @@ public class ExperimentRun {
      * I.e. if the result is > 1, no review seems to be better than review
      */
     public MedianWithConfidenceInterval getFactorNoReview() {
-        final double[] values = this.results.stream()
-                        .filter(x -> x.getFor(ReviewMode.NO_REVIEW) != null)
-                        .mapToDouble(x -> x.factorNoReview()).toArray();
-        return this.median(values);
+        return this.median(this.factorNoReview);
     }
 
     /**
@@ -501,14 +547,17 @@ public class ExperimentRun {
      * The result is between 0 and 1. The smaller it is, the less efficient is the team.
      */
     public MedianWithConfidenceInterval getShareProductiveWork() {
-        final double[] values = this.results.stream().mapToDouble(x -> x.shareProductiveWork()).toArray();
-        return this.median(values);
+        return this.median(this.shareProductiveWork);
     }
 
     private MedianWithConfidenceInterval median(double[] values) {
         return StatisticsUtil.median(values, this.settings.get(ExperimentRunParameters.CONFIDENCE_P));
     }
 
+    private MedianWithConfidenceInterval median(OrderStatistics values) {
+        return values.median(this.settings.get(ExperimentRunParameters.CONFIDENCE_P));
+    }
+
     /**
      * Returns the number of runs that were executed to reach the results (with sufficient statistical significance).
      */
@@ -539,6 +588,29 @@ public class ExperimentRun {
                     ExperimentRunner experimentRunner,
                     BulkParameterFactory initialParameters,
                     SingleRunCallback detailsCallback) {
+        return perform(runSettings, experimentRunner, initialParameters, detailsCallback, 1);
+    }
+
+    /**
+     * Performs the experiment run using the given number of threads. The replications (and their review modes)
+     * are executed speculatively in parallel, but their results are combined strictly in seed order. Therefore the
+     * order of the callbacks, the resulting medians and the decision when to stop are the same as for
+     * sequential execution. The given {@link ExperimentRunner} has to be thread-safe when threadCount > 1.
+     */
+    public static ExperimentRun perform(
+                    ExperimentRunSettings runSettings,
+                    ExperimentRunner experimentRunner,
+                    BulkParameterFactory initialParameters,
+                    SingleRunCallback detailsCallback,
+                    int threadCount) {
+        final boolean batchMeans = runSettings.get(ExperimentRunParameters.BATCH_MEANS) > 0;
+        if (batchMeans && !(experimentRunner instanceof BatchExperimentRunner)) {
+            throw new IllegalArgumentException("batch means need a BatchExperimentRunner");
+        }
+        //the batches of a run have to be simulated one after the other, so batch means are always executed sequentially
+        if (threadCount > 1 && !batchMeans) {
+            return performParallel(runSettings, experimentRunner, initialParameters, detailsCallback, threadCount);
+        }
 
         final int minRuns = (int) runSettings.get(ExperimentRunParameters.MIN_RUNS);
         final int maxRuns = (int) runSettings.get(ExperimentRunParameters.MAX_RUNS);
@@ -557,7 +629,7 @@ public class ExperimentRun {
             }
             result.add(no, pre, post);
             detailsCallback.handleResult(no, pre, post);
-            f = f.copyWithChangedSeed();
+            f = nextParameters(f, batchMeans);
             i++;
         }
 
@@ -569,7 +641,7 @@ public class ExperimentRun {
             }
             result.add(null, pre, post);
             detailsCallback.handleResult(null, pre, post);
-            f = f.copyWithChangedSeed();
+            f = nextParameters(f, batchMeans);
             i++;
         }
         result.numberOfTrials = i;
@@ -577,4 +649,142 @@ public class ExperimentRun {
         return result;
     }
 
+    private static BulkParameterFactory nextParameters(BulkParameterFactory f, boolean batchMeans) {
+        //in batch means mode, all batches belong to the same long run
+        return batchMeans ? f : f.copyWithChangedSeed();
+    }
+
+    /**
+     * The futures for the runs of one seed that have been submitted for parallel execution.
+     */
+    private static final class PendingReplication {
+        private final int runNumber;
+        private final Future<ExperimentResult> no;
+        private final Future<ExperimentResult> pre;
+        private final Future<ExperimentResult> post;
+
+        public PendingReplication(
+                        ExecutorService executor,
+                        ExperimentRunner experimentRunner,
+                        BulkParameterFactory f,
+                        int runNumber,
+                        boolean withNoReview,
+                        int daysForStartup,
+                        int daysForMeasurement) {
+            final String runId = Integer.toString(runNumber);
+            this.runNumber = runNumber;
+            this.no = withNoReview
+                ? executor.submit(() -> experimentRunner.runExperiment(f, ReviewMode.NO_REVIEW, null, runId, daysForStartup, daysForMeasurement))
+                : null;
+            this.pre = executor.submit(() -> experimentRunner.runExperiment(f, ReviewMode.PRE_COMMIT, null, runId, daysForStartup, daysForMeasurement));
+            this.post = executor.submit(() -> experimentRunner.runExperiment(f, ReviewMode.POST_COMMIT, null, runId, daysForStartup, daysForMeasurement));
+        }
+
+        public ExperimentResult getNo() {
+            assert this.no != null : "no review result for run " + this.runNumber + " was not requested";
+            return waitFor(this.no);
+        }
+
+        public ExperimentResult getPre() {
+            return waitFor(this.pre);
+        }
+
+        public ExperimentResult getPost() {
+            return waitFor(this.post);
+        }
+
+        public void cancelNo() {
+            if (this.no != null) {
+                this.no.cancel(false);
+            }
+        }
+
+        public void cancel() {
+            this.cancelNo();
+            this.pre.cancel(false);
+            this.post.cancel(false);
+        }
+
+        private static ExperimentResult waitFor(Future<ExperimentResult> future) {
+            try {
+                return future.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new RuntimeException(e.getCause());
+            }
+        }
+    }
+
+    private static ExperimentRun performParallel(
+                    ExperimentRunSettings runSettings,
+                    ExperimentRunner experimentRunner,
+                    BulkParameterFactory initialParameters,
+                    SingleRunCallback detailsCallback,
+                    int threadCount) {
+
+        final int minRuns = (int) runSettings.get(ExperimentRunParameters.MIN_RUNS);
+        final int maxRuns = (int) runSettings.get(ExperimentRunParameters.MAX_RUNS);
+        final int daysForStartup = (int) runSettings.get(ExperimentRunParameters.WORKING_DAYS_FOR_STARTUP);
+        final int daysForMeasurement = (int) runSettings.get(ExperimentRunParameters.WORKING_DAYS_FOR_MEASUREMENT);
+        final int runLimit = Math.max(minRuns, maxRuns);
+        final ExperimentRun result = new ExperimentRun(runSettings);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final Deque<PendingReplication> pending = new ArrayDeque<>();
+        try {
+            BulkParameterFactory nextToSubmit = initialParameters;
+            int submitted = 0;
+            int i = 0;
+            boolean needsNoReview = true;
+            while (true) {
+                //same stopping rules as in the sequential case. The first phase (with no review) can only
+                //  be left once, so that speculatively submitted runs without no review are never needed with it
+                if (needsNoReview) {
+                    needsNoReview = i < minRuns || (i < maxRuns && result.stillNeedsNoReviewData());
+                }
+                if (!needsNoReview && (i >= maxRuns || result.isSummaryStatisticallySignificant())) {
+                    break;
+                }
+
+                while (submitted < runLimit && submitted < i + threadCount) {
+                    pending.addLast(new PendingReplication(executor, experimentRunner, nextToSubmit, submitted,
+                                    needsNoReview, daysForStartup, daysForMeasurement));
+                    nextToSubmit = nextToSubmit.copyWithChangedSeed();
+                    submitted++;
+                }
+
+                final PendingReplication current = pending.removeFirst();
+                assert current.runNumber == i;
+                final ExperimentResult no;
+                if (needsNoReview) {
+                    no = current.getNo();
+                } else {
+                    current.cancelNo();
+                    no = null;
+                }
+                final ExperimentResult pre = current.getPre();
+                final ExperimentResult post = current.getPost();
+                if ((no != null && no.hadError()) || pre.hadError() || post.hadError()) {
+                    throw new RuntimeException("Had an error in run " + i);
+                }
+                result.add(no, pre, post);
+                detailsCallback.handleResult(no, pre, post);
+                i++;
+            }
+            result.numberOfTrials = i;
+        } finally {
+            for (final PendingReplication p : pending) {
+                p.cancel();
+            }
+            executor.shutdown();
+        }
+
+        return result;
+    }
+
 }
@@ -31,7 +31,9 @@ public class ExperimentRunSettings {
         LIMIT_NEGLIGIBLE_DIFFERENCE_CYCLE_TIME("Grenzwert für den Korridor, innerhalb dessen ein Unterschied bei der durchschnittlichen Story-Durchlaufzeit als 'vernachlässigbar' gilt. 0,05 heißt z.B., dass Unterschiede von -5% bis %5 vernachlässigbar sind."),
         CONFIDENCE_P("p-Wert, mit dem die Konfidenzintervalle bestimmt werden"),
         WORKING_DAYS_FOR_STARTUP("Anzahl Werktage, die als 'Aufwärm-Zeit' nicht in die Auswertung einbezogen werden."),
-        WORKING_DAYS_FOR_MEASUREMENT("Anzahl Werktage, die nach dem Aufwärmen für die Messung verwendet werden.");
+        WORKING_DAYS_FOR_MEASUREMENT("Anzahl Werktage, die nach dem Aufwärmen für die Messung verwendet werden."),
+        BATCH_MEANS("Werte größer 0 schalten auf 'Batch Means' um: Statt unabhängiger Simulationsläufe wird je Review-Modus ein einziger langer Lauf gemacht, der nach dem Aufwärmen in aufeinanderfolgende Abschnitte mit der Messdauer zerlegt wird."),
+        WARM_UP_DETECTION("Werte größer 0 schalten die automatische Erkennung des Endes der Aufwärm-Zeit (MSER-5) ein. Die Anzahl Werktage für das Aufwärmen ist dann die Obergrenze.");
 
         private final String description;
 
@@ -58,6 +60,8 @@ public class ExperimentRunSettings {
         ret.params.put(ExperimentRunParameters.CONFIDENCE_P, 0.01);
         ret.params.put(ExperimentRunParameters.WORKING_DAYS_FOR_STARTUP, 700.0);
         ret.params.put(ExperimentRunParameters.WORKING_DAYS_FOR_MEASUREMENT, 600.0);
+        ret.params.put(ExperimentRunParameters.BATCH_MEANS, 0.0);
+        ret.params.put(ExperimentRunParameters.WARM_UP_DETECTION, 0.0);
         return ret;
     }
 
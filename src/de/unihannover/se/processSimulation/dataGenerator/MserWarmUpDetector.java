@@ -0,0 +1,92 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import java.util.Arrays;
+
+/**
+ * Detection of the end of the initial transient ("warm-up") of a simulation output series using the
+ * MSER-5 rule (marginal standard error rule, applied to the means of batches of five observations):
+ * The truncation point is chosen so that the standard error of the mean of the remaining data is minimal.
+ * The result is only trusted when the truncation point lies in the first half of the data, otherwise more
+ * data is needed.
+ */
+class MserWarmUpDetector {
+
+    static final int BATCH_SIZE = 5;
+
+    private double[] batchMeans = new double[16];
+    private int batchCount;
+    private double currentBatchSum;
+    private int currentBatchSize;
+
+    /**
+     * Adds the next observation of the series.
+     */
+    public void addObservation(double value) {
+        this.currentBatchSum += value;
+        this.currentBatchSize++;
+        if (this.currentBatchSize == BATCH_SIZE) {
+            if (this.batchCount == this.batchMeans.length) {
+                this.batchMeans = Arrays.copyOf(this.batchMeans, this.batchCount * 2);
+            }
+            this.batchMeans[this.batchCount++] = this.currentBatchSum / BATCH_SIZE;
+            this.currentBatchSum = 0.0;
+            this.currentBatchSize = 0;
+        }
+    }
+
+    /**
+     * Returns the number of observations (from the start of the series) that should be truncated.
+     * Incomplete batches at the end of the series are not considered.
+     */
+    public int getTruncationPoint() {
+        //the sums of the remaining batches are built from the end, so that every candidate truncation point is
+        //  evaluated in constant time
+        double sum = 0.0;
+        double sumOfSquares = 0.0;
+        double bestStatistic = Double.POSITIVE_INFINITY;
+        int bestTruncation = 0;
+        for (int d = this.batchCount - 1; d >= 0; d--) {
+            final double z = this.batchMeans[d];
+            sum += z;
+            sumOfSquares += z * z;
+            final int remaining = this.batchCount - d;
+            if (remaining < 2) {
+                continue;
+            }
+            final double squaredDeviations = sumOfSquares - sum * sum / remaining;
+            final double statistic = squaredDeviations / ((double) remaining * remaining);
+            if (statistic <= bestStatistic) {
+                bestStatistic = statistic;
+                bestTruncation = d;
+            }
+        }
+        return bestTruncation * BATCH_SIZE;
+    }
+
+    /**
+     * Returns true iff there is enough data and the detected truncation point lies in the first half of the
+     * data, i.e. the series seems to have reached its steady state.
+     */
+    public boolean isSteadyStateReached(int minObservations) {
+        final int observations = this.batchCount * BATCH_SIZE;
+        return observations >= minObservations && this.getTruncationPoint() < observations / 2;
+    }
+
+}
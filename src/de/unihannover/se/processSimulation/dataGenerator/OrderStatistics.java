@@ -0,0 +1,80 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import java.util.Arrays;
+
+/**
+ * A growing sample of double values that is kept sorted all the time, so that the
+ * median and its confidence interval can be determined without sorting the whole data again.
+ * Values are inserted using binary search, which makes adding cheap compared to
+ * rebuilding and sorting the whole array after every new replication.
+ */
+class OrderStatistics {
+
+    private double[] sortedValues;
+    private int size;
+
+    public OrderStatistics() {
+        this.sortedValues = new double[16];
+    }
+
+    /**
+     * Adds a value to the sample.
+     */
+    public void add(double value) {
+        if (this.size == this.sortedValues.length) {
+            this.sortedValues = Arrays.copyOf(this.sortedValues, this.size * 2);
+        }
+        final int insertionPoint = this.findInsertionPoint(value);
+        System.arraycopy(this.sortedValues, insertionPoint, this.sortedValues, insertionPoint + 1, this.size - insertionPoint);
+        this.sortedValues[insertionPoint] = value;
+        this.size++;
+    }
+
+    private int findInsertionPoint(double value) {
+        //uses the same ordering as Arrays.sort, so that the results are identical to StatisticsUtil.median
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (Double.compare(this.sortedValues[mid], value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of values in the sample.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the median and its confidence interval for the current sample.
+     * The result is the same as when calling {@link StatisticsUtil#median(double[], double)} on all the values.
+     */
+    public MedianWithConfidenceInterval median(double p) {
+        return StatisticsUtil.medianOfSorted(this.sortedValues, this.size, p);
+    }
+
+}
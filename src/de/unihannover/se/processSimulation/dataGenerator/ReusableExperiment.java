@@ -0,0 +1,110 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+import de.unihannover.se.processSimulation.common.ParametersFactory;
+import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.common.XoroshiroRandomGenerator;
+import de.unihannover.se.processSimulation.preCommitPostCommit.PrePostModel;
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.TimeInstant;
+
+/**
+ * An experiment whose model and DESMO-J objects are reused for several independent replications. Every
+ * replication starts with a reset of the model to its initial state and with the random number streams
+ * reseeded (see {@link PrePostModel#reset(long)}), so that, unlike {@link WarmedUpExperiment}, the replications
+ * do not share any state and also include the startup phase.
+ *
+ * DESMO-J's simulation time cannot be set back, so the replications are simulated one after the other on
+ * the same time axis.
+ */
+public class ReusableExperiment {
+
+    private final ParametersFactory parameters;
+    private final String key;
+    private final PrePostModel model;
+    private final Experiment exp;
+    private long currentHours;
+
+    /**
+     * Creates the model and the experiment for the given parameters (not regarding the seed) and review mode.
+     * The key is used by the caller to identify the experiment.
+     */
+    public ReusableExperiment(EngineSettings engine, ParametersFactory p, ReviewMode mode, String runId, String key) {
+        this.parameters = p;
+        this.key = key;
+        this.model = DataGenerator.createModel(engine, mode, p, false, PrePostModel.NO_AUTOMATIC_RESET);
+        this.exp = DataGenerator.createExperiment(engine, "Experiment" + mode + "_" + runId + "_reusable", null);
+        this.exp.setRandomNumberGenerator(XoroshiroRandomGenerator.class);
+        this.exp.setSeedGenerator(p.getSeed());
+        this.model.connectToExperiment(this.exp);
+        this.exp.setSilent(true);
+        this.exp.setShowProgressBar(false);
+
+        //only starts the experiment, the replications begin with resetting the model
+        this.exp.stop(new TimeInstant(0, TimeUnit.HOURS));
+        this.exp.start();
+    }
+
+    /**
+     * Returns the key given on creation.
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns true iff an error occurred in the experiment. As DESMO-J keeps this state, an experiment with an error
+     * must not be used for further replications.
+     */
+    public boolean hasError() {
+        return this.exp.hasError();
+    }
+
+    /**
+     * Simulates a new replication with the given seed and returns its result.
+     */
+    public ExperimentResult runReplication(long seed, int workingDaysForStartup, int workingDaysForMeasurement) {
+        final long startTime = System.currentTimeMillis();
+        final int hoursToReset = workingDaysForStartup * DataGenerator.HOURS_PER_WORKING_DAY;
+        final int relevantRunningHours = workingDaysForMeasurement * DataGenerator.HOURS_PER_WORKING_DAY;
+
+        this.model.reset(seed);
+        this.currentHours += hoursToReset;
+        this.exp.stop(new TimeInstant(this.currentHours, TimeUnit.HOURS));
+        this.exp.proceed();
+
+        this.model.reset();
+        this.currentHours += relevantRunningHours;
+        this.exp.stop(new TimeInstant(this.currentHours, TimeUnit.HOURS));
+        this.exp.proceed();
+        return DataGenerator.createResult(
+                        this.model, this.parameters, hoursToReset, relevantRunningHours, System.currentTimeMillis() - startTime, this.exp.hasError());
+    }
+
+    /**
+     * Ends the experiment and frees its resources.
+     */
+    public void finish() {
+        this.exp.finish();
+        this.model.terminate();
+    }
+
+}
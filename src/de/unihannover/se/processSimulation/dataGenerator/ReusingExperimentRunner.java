@@ -0,0 +1,116 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import de.unihannover.se.processSimulation.common.ParametersFactory;
+import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.ExperimentRunner;
+
+/**
+ * {@link ExperimentRunner} that reuses the model and experiment for consecutive replications with the same
+ * parameters (not regarding the seed) and review mode, see {@link ReusableExperiment}. This avoids most of the
+ * setup work for a replication. The result of a call only depends on its parameters, so this runner can also
+ * be used with parallel execution: Every thread has its own experiments, one per review mode. When a thread is
+ * called with other parameters, its old experiment for the review mode is finished.
+ *
+ * Calls with a result directory or other parameters than {@link BulkParameterFactory} are passed on to
+ * {@link DataGenerator#runExperiment}.
+ */
+public class ReusingExperimentRunner implements ExperimentRunner, AutoCloseable {
+
+    private final ThreadLocal<Map<ReviewMode, ReusableExperiment>> experimentsOfThread =
+                    ThreadLocal.withInitial(() -> new EnumMap<>(ReviewMode.class));
+    private final List<ReusableExperiment> allExperiments = new ArrayList<>();
+    private final EngineSettings engine;
+    private boolean closed;
+
+    public ReusingExperimentRunner() {
+        this(EngineSettings.defaultSettings());
+    }
+
+    public ReusingExperimentRunner(EngineSettings engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public ExperimentResult runExperiment(
+                    ParametersFactory p, ReviewMode mode, File resultDir, String runId, int workingDaysForStartup, int workingDaysForMeasurement) {
+        if (resultDir != null || !(p instanceof BulkParameterFactory)) {
+            return DataGenerator.runExperiment(this.engine, p, mode, resultDir, runId, workingDaysForStartup, workingDaysForMeasurement);
+        }
+
+        final ReusableExperiment exp = this.getExperiment((BulkParameterFactory) p, mode, runId);
+        return exp.runReplication(p.getSeed(), workingDaysForStartup, workingDaysForMeasurement);
+    }
+
+    @Override
+    public String getSetupDescription() {
+        return this.engine + ";reuse";
+    }
+
+    private ReusableExperiment getExperiment(BulkParameterFactory p, ReviewMode mode, String runId) {
+        final String key = p.toCanonicalParameterString();
+        final Map<ReviewMode, ReusableExperiment> experiments = this.experimentsOfThread.get();
+        final ReusableExperiment old = experiments.get(mode);
+        if (old != null && old.getKey().equals(key) && !old.hasError()) {
+            return old;
+        }
+        if (old != null) {
+            this.finish(old);
+        }
+        final ReusableExperiment exp = new ReusableExperiment(this.engine, p, mode, runId, key);
+        synchronized (this) {
+            if (this.closed) {
+                exp.finish();
+                throw new IllegalStateException("runner has already been closed");
+            }
+            this.allExperiments.add(exp);
+        }
+        experiments.put(mode, exp);
+        return exp;
+    }
+
+    private void finish(ReusableExperiment exp) {
+        synchronized (this) {
+            if (!this.allExperiments.remove(exp)) {
+                //already finished by close
+                return;
+            }
+        }
+        exp.finish();
+    }
+
+    /**
+     * Ends all experiments that were started by this runner. The runner must not be used afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        this.closed = true;
+        for (final ReusableExperiment exp : this.allExperiments) {
+            exp.finish();
+        }
+        this.allExperiments.clear();
+    }
+
+}
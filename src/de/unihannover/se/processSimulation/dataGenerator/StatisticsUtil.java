@@ -18,6 +18,7 @@
 package de.unihannover.se.processSimulation.dataGenerator;
 
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.math.MathException;
 import org.apache.commons.math.distribution.BinomialDistribution;
@@ -28,6 +29,73 @@ import org.apache.commons.math.distribution.BinomialDistributionImpl;
  */
 public class StatisticsUtil {
 
+    /**
+     * The indices of the lower and upper confidence bound for the median, for a fixed p and increasing data lengths.
+     * The table is filled lazily and grown on demand. Reading is lock-free, growing is synchronized.
+     */
+    private static final class ConfidenceRanks {
+        private final double p;
+        //for data length n, the lower bound index is at 2 * n and the upper bound index is at 2 * n + 1
+        private volatile int[] indices = new int[0];
+
+        public ConfidenceRanks(double p) {
+            this.p = p;
+        }
+
+        public int lowerIndex(int length) {
+            return this.indicesFor(length)[2 * length];
+        }
+
+        public int upperIndex(int length) {
+            return this.indicesFor(length)[2 * length + 1];
+        }
+
+        private int[] indicesFor(int length) {
+            final int[] cur = this.indices;
+            if (2 * length + 1 < cur.length) {
+                return cur;
+            }
+            return this.ensureCapacity(Math.max(length, cur.length));
+        }
+
+        public synchronized int[] ensureCapacity(int maxLength) {
+            final int[] old = this.indices;
+            if (2 * maxLength + 1 < old.length) {
+                return old;
+            }
+            final int[] ret = Arrays.copyOf(old, 2 * maxLength + 2);
+            //the median of empty data is undefined, so the entry for n = 0 is not filled
+            for (int n = Math.max(1, old.length / 2); n <= maxLength; n++) {
+                ret[2 * n] = qBinom(this.p / 2.0, n, 0.5) - 1;
+                ret[2 * n + 1] = Math.min(qBinom(1.0 - this.p / 2.0, n, 0.5), n - 1);
+            }
+            this.indices = ret;
+            return ret;
+        }
+    }
+
+    private static final ConcurrentHashMap<Double, ConfidenceRanks> CONFIDENCE_RANKS = new ConcurrentHashMap<>();
+    //almost always, only a single p is used. Remembering it avoids the map lookup (and boxing) on the hot path
+    private static volatile ConfidenceRanks lastUsedRanks;
+
+    private static ConfidenceRanks confidenceRanks(double p) {
+        ConfidenceRanks ret = lastUsedRanks;
+        if (ret == null || Double.compare(ret.p, p) != 0) {
+            ret = CONFIDENCE_RANKS.computeIfAbsent(p, ConfidenceRanks::new);
+            lastUsedRanks = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * Computes the confidence interval indices for the median for all data lengths up to the given one,
+     * so that they don't have to be determined later when the median is needed.
+     * Calling this method is optional, the indices are computed on demand otherwise.
+     */
+    public static void precomputeConfidenceRanks(int maxLength, double p) {
+        confidenceRanks(p).ensureCapacity(maxLength);
+    }
+
     /**
      * Computes the median and its confidence interval for the given data and p-value.
      * When there is enough data, the confidence interval is conservative. The caller
@@ -36,12 +104,22 @@ public class StatisticsUtil {
      */
     public static MedianWithConfidenceInterval median(double[] data, double p) {
         Arrays.sort(data);
+        return medianOfSorted(data, data.length, p);
+    }
+
+    /**
+     * Computes the median and its confidence interval for the first "length" entries of the given array,
+     * which have to be sorted already (in the order defined by {@link Double#compare(double, double)}).
+     * @see #median(double[], double)
+     */
+    static MedianWithConfidenceInterval medianOfSorted(double[] sortedData, int length, double p) {
         //When the array is really short, the intended p value can possibly not be reached. This is not checked here
         //  and has to be taken care of by the researcher.
+        final ConfidenceRanks ranks = confidenceRanks(p);
         return new MedianWithConfidenceInterval(
-                data.length % 2 == 0 ? ((data[data.length / 2 - 1] + data[data.length / 2]) / 2.0) : data[data.length / 2],
-                data[qBinom(p / 2.0, data.length, 0.5) - 1],
-                data[Math.min(qBinom(1.0 - p / 2.0, data.length, 0.5), data.length - 1)]);
+                length % 2 == 0 ? ((sortedData[length / 2 - 1] + sortedData[length / 2]) / 2.0) : sortedData[length / 2],
+                sortedData[ranks.lowerIndex(length)],
+                sortedData[ranks.upperIndex(length)]);
     }
 
     static int qBinom(double q, int trials, double p) {
@@ -0,0 +1,86 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+import de.unihannover.se.processSimulation.common.ParametersFactory;
+import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.common.XoroshiroRandomGenerator;
+import de.unihannover.se.processSimulation.preCommitPostCommit.PrePostModel;
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.TimeInstant;
+
+/**
+ * A single long run whose startup phase is simulated once. Afterwards, it is divided into consecutive
+ * measurement phases (batches), each starting with the statistics reset. The random number streams simply
+ * continue, so the batches are parts of one and the same run and are not independent replications.
+ */
+public class WarmedUpExperiment {
+
+    private final ParametersFactory parameters;
+    private final PrePostModel model;
+    private final Experiment exp;
+    private final int warmUpHours;
+    private long currentHours;
+    private boolean hadError;
+
+    /**
+     * Creates the experiment and simulates the startup phase.
+     */
+    public WarmedUpExperiment(EngineSettings engine, ParametersFactory p, ReviewMode mode, String runId, int workingDaysForStartup) {
+        this.parameters = p;
+        this.warmUpHours = workingDaysForStartup * DataGenerator.HOURS_PER_WORKING_DAY;
+        this.currentHours = this.warmUpHours;
+        this.model = DataGenerator.createModel(engine, mode, p, false, this.warmUpHours);
+        this.exp = DataGenerator.createExperiment(engine, "Experiment" + mode + "_" + runId + "_warmedUp", null);
+        this.exp.setRandomNumberGenerator(XoroshiroRandomGenerator.class);
+        this.exp.setSeedGenerator(p.getSeed());
+        this.model.connectToExperiment(this.exp);
+        this.exp.setSilent(true);
+        this.exp.setShowProgressBar(false);
+
+        this.exp.stop(new TimeInstant(this.currentHours, TimeUnit.HOURS));
+        this.exp.start();
+        this.hadError = this.exp.hasError();
+    }
+
+    /**
+     * Simulates the next measurement phase and returns its result.
+     */
+    public ExperimentResult measure(int workingDaysForMeasurement) {
+        final long startTime = System.currentTimeMillis();
+        final int relevantRunningHours = DataGenerator.HOURS_PER_WORKING_DAY * workingDaysForMeasurement;
+        this.model.reset();
+        this.currentHours += relevantRunningHours;
+        this.exp.stop(new TimeInstant(this.currentHours, TimeUnit.HOURS));
+        this.exp.proceed();
+        this.hadError |= this.exp.hasError();
+        return DataGenerator.createResult(
+                        this.model, this.parameters, this.warmUpHours, relevantRunningHours, System.currentTimeMillis() - startTime, this.hadError);
+    }
+
+    /**
+     * Ends the experiment and frees its resources.
+     */
+    public void finish() {
+        this.exp.finish();
+        this.model.terminate();
+    }
+
+}
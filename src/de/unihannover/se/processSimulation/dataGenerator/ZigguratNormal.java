@@ -0,0 +1,89 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Samples from the standard normal distribution with Marsaglia and Tsang's ziggurat method (in the variant
+ * by Doornik, which uses floating point random numbers). In most cases a sample needs only one uniform random
+ * number, one multiplication and one comparison.
+ */
+final class ZigguratNormal {
+
+    private static final int LAYERS = 128;
+    private static final double TAIL_START = 3.442619855899;
+    private static final double LAYER_AREA = 9.91256303526217e-3;
+
+    private static final double[] X = new double[LAYERS + 1];
+    private static final double[] RATIO = new double[LAYERS];
+
+    static {
+        double f = Math.exp(-0.5 * TAIL_START * TAIL_START);
+        X[0] = LAYER_AREA / f;
+        X[1] = TAIL_START;
+        X[LAYERS] = 0.0;
+        for (int i = 2; i < LAYERS; i++) {
+            X[i] = Math.sqrt(-2.0 * Math.log(LAYER_AREA / X[i - 1] + f));
+            f = Math.exp(-0.5 * X[i] * X[i]);
+        }
+        for (int i = 0; i < LAYERS; i++) {
+            RATIO[i] = X[i + 1] / X[i];
+        }
+    }
+
+    private ZigguratNormal() {
+    }
+
+    /**
+     * Returns a sample from the standard normal distribution, using the given source of uniform random numbers in [0,1).
+     */
+    public static double sample(DoubleSupplier uniform) {
+        while (true) {
+            //the layer is taken from the upper bits and the position in the layer from the remaining bits
+            final double scaled = uniform.getAsDouble() * LAYERS;
+            final int layer = (int) scaled;
+            final double u = 2.0 * (scaled - layer) - 1.0;
+
+            if (Math.abs(u) < RATIO[layer]) {
+                return u * X[layer];
+            }
+            if (layer == 0) {
+                return sampleTail(uniform, u < 0.0);
+            }
+
+            final double x = u * X[layer];
+            final double f0 = Math.exp(-0.5 * (X[layer] * X[layer] - x * x));
+            final double f1 = Math.exp(-0.5 * (X[layer + 1] * X[layer + 1] - x * x));
+            if (f1 + uniform.getAsDouble() * (f0 - f1) < 1.0) {
+                return x;
+            }
+        }
+    }
+
+    private static double sampleTail(DoubleSupplier uniform, boolean negative) {
+        double x;
+        double y;
+        do {
+            x = Math.log(1.0 - uniform.getAsDouble()) / TAIL_START;
+            y = Math.log(1.0 - uniform.getAsDouble());
+        } while (-2.0 * y < x * x);
+        return negative ? x - TAIL_START : TAIL_START - x;
+    }
+
+}
@@ -45,11 +45,15 @@ import org.jfree.data.category.DefaultCategoryDataset;
 import com.google.common.io.Files;
 
 import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.dataGenerator.BatchMeansExperimentRunner;
 import de.unihannover.se.processSimulation.dataGenerator.BulkParameterFactory;
 import de.unihannover.se.processSimulation.dataGenerator.BulkParameterFactory.ParameterType;
+import de.unihannover.se.processSimulation.dataGenerator.CachingExperimentRunner;
 import de.unihannover.se.processSimulation.dataGenerator.DataGenerator;
+import de.unihannover.se.processSimulation.dataGenerator.EngineSettings;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentResult;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun;
+import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.ExperimentRunner;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.ExperimentRunSummary;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.SingleRunCallback;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRunSettings;
@@ -66,6 +70,11 @@ public class ServerMain extends AbstractHandler {
     private static final String PARAMS_PROPERTIES = "params.properties";
     private static final String SETTINGS_PROPERTIES = "settings.properties";
     private final AtomicInteger requestIdCounter = new AtomicInteger();
+    private final ExperimentRunner experimentRunner;
+
+    public ServerMain(ExperimentRunner experimentRunner) {
+        this.experimentRunner = experimentRunner;
+    }
 
     @Override
     public void handle(String target,
@@ -442,7 +451,16 @@ public class ServerMain extends AbstractHandler {
 
         final ExperimentRun result;
         try {
-            result = ExperimentRun.perform(s, DataGenerator::runExperiment, f, detailsCallback);
+            if (s.get(ExperimentRunParameters.BATCH_MEANS) > 0) {
+                try (BatchMeansExperimentRunner batchRunner = new BatchMeansExperimentRunner()) {
+                    result = ExperimentRun.perform(s, batchRunner, f, detailsCallback);
+                }
+            } else if (s.get(ExperimentRunParameters.WARM_UP_DETECTION) > 0) {
+                result = ExperimentRun.perform(
+                                s, DataGenerator.warmUpDetectionRunner(EngineSettings.defaultSettings()), f, detailsCallback);
+            } else {
+                result = ExperimentRun.perform(s, this.experimentRunner, f, detailsCallback);
+            }
         } catch (final RuntimeException e) {
             w.println("An exception occured during simulation: " + e.getMessage());
             return;
@@ -492,7 +510,13 @@ public class ServerMain extends AbstractHandler {
     public static void main(String[] args) throws Exception {
         Experiment.setCoroutineModel(CoroutineModel.FIBERS);
         final Server server = new Server(args.length > 0 ? Integer.parseInt(args[0]) : 8080);
-        server.setHandler(new ServerMain());
+        final ExperimentRunner runner;
+        if (args.length > 1) {
+            runner = new CachingExperimentRunner(DataGenerator.runner(EngineSettings.defaultSettings()), new File(args[1]), 100000);
+        } else {
+            runner = DataGenerator::runExperiment;
+        }
+        server.setHandler(new ServerMain(runner));
 
         server.start();
         server.join();
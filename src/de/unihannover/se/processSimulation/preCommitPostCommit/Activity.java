@@ -0,0 +1,143 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import desmoj.core.simulator.TimeSpan;
+
+/**
+ * Some work of a developer, described as a sequence of steps. Between the steps, the developer can wait
+ * for some time (hold) or until he is activated by someone else.
+ *
+ * Describing the work this way (instead of directly calling hold on a process) allows it to be executed by a
+ * {@link DeveloperProcess} as well as by a {@link DeveloperEvent}. Both execute exactly the same steps
+ * in the same order, so the simulation results do not depend on the chosen {@link DeveloperEngine}.
+ */
+final class Activity {
+
+    /**
+     * A single step of the activity. Returns the time span to wait before the next step, or null
+     * if the next step can follow immediately.
+     */
+    private interface Step {
+        public abstract TimeSpan perform(Activity activity);
+    }
+
+    private static final Step WAIT_FOR_ACTIVATION = (Activity a) -> {
+        a.waitingForActivation = true;
+        return null;
+    };
+
+    private final Deque<Step> steps = new ArrayDeque<>();
+    private boolean waitingForActivation;
+
+    /**
+     * Adds a step that performs the given action.
+     */
+    public Activity then(Runnable action) {
+        this.steps.addLast((Activity a) -> {
+            action.run();
+            return null;
+        });
+        return this;
+    }
+
+    /**
+     * Adds a step that waits for the given time span. The time span is determined when the step is reached.
+     */
+    public Activity thenHold(Supplier<TimeSpan> duration) {
+        this.steps.addLast((Activity a) -> duration.get());
+        return this;
+    }
+
+    /**
+     * Adds a step that performs another activity. The activity is created when the step is reached.
+     */
+    public Activity thenPerform(Supplier<Activity> subActivity) {
+        this.steps.addLast((Activity a) -> {
+            a.insertAtFront(subActivity.get());
+            return null;
+        });
+        return this;
+    }
+
+    /**
+     * Adds a step that performs an activity again and again as long as the given condition is true.
+     * The condition is checked (and the activity created) when the step is reached and after every repetition.
+     */
+    public Activity thenRepeatWhile(BooleanSupplier condition, Supplier<Activity> body) {
+        this.steps.addLast(new Step() {
+            @Override
+            public TimeSpan perform(Activity a) {
+                if (condition.getAsBoolean()) {
+                    a.steps.addFirst(this);
+                    a.insertAtFront(body.get());
+                }
+                return null;
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Adds a step that lets the developer wait until he is activated by someone else.
+     */
+    public Activity thenWaitForActivation() {
+        this.steps.addLast(WAIT_FOR_ACTIVATION);
+        return this;
+    }
+
+    private void insertAtFront(Activity other) {
+        final Iterator<Step> iter = other.steps.descendingIterator();
+        while (iter.hasNext()) {
+            this.steps.addFirst(iter.next());
+        }
+    }
+
+    /**
+     * Performs the steps of this activity until it has to wait or is finished.
+     * Returns the time span to wait. Returns null if the activity is finished or waits for activation,
+     * these cases can be distinguished with {@link #isFinished()}.
+     */
+    public TimeSpan proceed() {
+        this.waitingForActivation = false;
+        while (!this.steps.isEmpty()) {
+            final TimeSpan timeToWait = this.steps.removeFirst().perform(this);
+            if (timeToWait != null) {
+                return timeToWait;
+            }
+            if (this.waitingForActivation) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true iff all steps of this activity have been performed.
+     */
+    public boolean isFinished() {
+        return this.steps.isEmpty() && !this.waitingForActivation;
+    }
+
+}
@@ -0,0 +1,99 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import java.util.Arrays;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Helper methods to replace a sequence of independent Bernoulli experiments by a binomially distributed count,
+ * so that only few random numbers are needed even for a large number of experiments.
+ */
+final class BinomialSampling {
+
+    /**
+     * The probability of zero successes is computed directly, so the number of experiments
+     * handled in one inversion is limited to avoid underflow (0.5^500 is still far from the smallest double).
+     */
+    private static final int MAX_EXPERIMENTS_PER_INVERSION = 500;
+
+    private BinomialSampling() {
+    }
+
+    /**
+     * Returns the number of successes in n independent experiments that succeed with probability p each.
+     * Uses inversion of the cumulative distribution function, which needs one random number
+     * per (at most) {@link #MAX_EXPERIMENTS_PER_INVERSION} experiments.
+     * @param random Source of uniformly distributed random numbers in [0,1).
+     */
+    public static int sampleCount(DoubleSupplier random, int n, double p) {
+        if (n <= 0 || p <= 0.0) {
+            return 0;
+        }
+        if (p >= 1.0) {
+            return n;
+        }
+        if (p > 0.5) {
+            return n - sampleCount(random, n, 1.0 - p);
+        }
+        int successes = 0;
+        int remaining = n;
+        while (remaining > 0) {
+            final int chunk = Math.min(remaining, MAX_EXPERIMENTS_PER_INVERSION);
+            successes += invert(random.getAsDouble(), chunk, p);
+            remaining -= chunk;
+        }
+        return successes;
+    }
+
+    private static int invert(double u, int n, double p) {
+        final double oddsRatio = p / (1.0 - p);
+        double probability = Math.pow(1.0 - p, n);
+        double cumulativeProbability = probability;
+        int k = 0;
+        while (u >= cumulativeProbability && k < n) {
+            probability *= oddsRatio * (n - k) / (k + 1);
+            k++;
+            cumulativeProbability += probability;
+        }
+        return k;
+    }
+
+    /**
+     * Chooses k of the indices 0 to n-1 uniformly at random (partial Fisher-Yates shuffle).
+     * The chosen indices are returned in ascending order.
+     * @param random Source of uniformly distributed random numbers in [0,1).
+     */
+    public static int[] chooseIndices(DoubleSupplier random, int n, int k) {
+        assert 0 <= k && k <= n;
+        final int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            indices[i] = i;
+        }
+        for (int i = 0; i < k; i++) {
+            final int j = i + Math.min((int) (random.getAsDouble() * (n - i)), n - i - 1);
+            final int tmp = indices[i];
+            indices[i] = indices[j];
+            indices[j] = tmp;
+        }
+        final int[] chosen = Arrays.copyOf(indices, k);
+        Arrays.sort(chosen);
+        return chosen;
+    }
+
+}
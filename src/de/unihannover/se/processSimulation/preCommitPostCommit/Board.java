@@ -17,13 +17,15 @@
 
 package de.unihannover.se.processSimulation.preCommitPostCommit;
 
-import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
-import desmoj.core.simulator.TimeInstant;
 import desmoj.core.statistic.Count;
 
 /**
@@ -33,13 +35,38 @@ import desmoj.core.statistic.Count;
  */
 class Board {
 
+    /**
+     * Condition a task has to fulfill to be taken into account when searching for the best fitting task for a developer.
+     */
+    private static enum TaskFilter {
+        ALL {
+            @Override
+            public boolean accepts(Task t, Developer developer) {
+                return true;
+            }
+        },
+        NOT_IMPLEMENTED_BY_DEVELOPER {
+            @Override
+            public boolean accepts(Task t, Developer developer) {
+                return !t.wasImplementedBy(developer);
+            }
+        };
+
+        public abstract boolean accepts(Task t, Developer developer);
+    }
+
     private final PrePostModel model;
     private final List<NormalIssue> unassessedIssues;
-    private final List<StoryTask> openStoryTasks;
-    private final List<IssueFixTask> openIssues;
+    private final Set<StoryTask> openStoryTasks;
+    //the open story tasks whose prerequisites are commited, in the order in which they were put on the board
+    private final Set<StoryTask> implementableStoryTasks;
+    private long storyTaskCounter;
+    private final Set<IssueFixTask> openIssues;
     private final Set<Task> tasksInImplementation;
-    private final List<Task> tasksReadyForReview;
-    private final List<Task> tasksWithReviewRemarks;
+    private final Set<Task> tasksReadyForReview;
+    //tasks with review remarks are only of interest for their author, so they are kept separately for each author
+    private final Map<Developer, Set<Task>> tasksWithReviewRemarks;
+    private int tasksWithReviewRemarksCount;
     private Story storyInPlanning;
 
     private final Count startedStoryCount;
@@ -50,15 +77,34 @@ class Board {
     public Board(PrePostModel owner) {
         this.model = owner;
         //DESMO-J queues are slow when large, therefore use lists instead
+        //  the columns are linked sets, because they keep the order like a list but allow fast removal of arbitrary tasks
         this.unassessedIssues = new LinkedList<>();
-        this.openStoryTasks = new LinkedList<>();
-        this.openIssues = new LinkedList<>();
+        this.openStoryTasks = new LinkedHashSet<>();
+        this.implementableStoryTasks = new TreeSet<>(Comparator.comparingLong(StoryTask::getBoardPosition));
+        this.openIssues = new LinkedHashSet<>();
         this.tasksInImplementation = new LinkedHashSet<>();
-        this.tasksReadyForReview = new LinkedList<>();
-        this.tasksWithReviewRemarks = new LinkedList<>();
+        this.tasksReadyForReview = new LinkedHashSet<>();
+        this.tasksWithReviewRemarks = new HashMap<>();
         this.startedStoryCount = new Count(owner, "startedStoryCount", true, true);
     }
 
+    /**
+     * Removes all stories and tasks from the board. The statistics are left untouched, they are reset
+     * together with the model's other statistics.
+     */
+    void clear() {
+        this.unassessedIssues.clear();
+        this.openStoryTasks.clear();
+        this.implementableStoryTasks.clear();
+        this.storyTaskCounter = 0;
+        this.openIssues.clear();
+        this.tasksInImplementation.clear();
+        this.tasksReadyForReview.clear();
+        this.tasksWithReviewRemarks.clear();
+        this.tasksWithReviewRemarksCount = 0;
+        this.storyInPlanning = null;
+    }
+
     /**
      * Returns the story that should be planned next (conceptually the first story in the backlog).
      * The backlog's details are not further modeled, therefore this is just a new random story.
@@ -80,7 +126,11 @@ class Board {
         assert this.storyInPlanning == story;
         this.storyInPlanning = null;
         for (final StoryTask task : story.getTasks()) {
+            task.setBoardPosition(this.storyTaskCounter++);
             this.openStoryTasks.add(task);
+            if (task.arePrerequisitesGiven()) {
+                this.implementableStoryTasks.add(task);
+            }
         }
     }
 
@@ -93,7 +143,7 @@ class Board {
         if (this.openIssues.isEmpty()) {
             return null;
         }
-        final IssueFixTask best = determineBestFit(this.openIssues, developer);
+        final IssueFixTask best = determineBestFit(this.openIssues, developer, TaskFilter.ALL);
         this.openIssues.remove(best);
         this.tasksInImplementation.add(best);
         return best;
@@ -106,27 +156,33 @@ class Board {
      * developer is chosen. Returns null iff there are no open issuefix tasks that can be implemented.
      */
     public StoryTask getTaskToImplement(Developer developer) {
-        final List<StoryTask> possibleTasks = new ArrayList<>();
-        for (final StoryTask t : this.openStoryTasks) {
-            if (t.arePrerequisitesGiven()) {
-                possibleTasks.add(t);
-            }
-        }
-        if (possibleTasks.isEmpty()) {
+        final StoryTask best = determineBestFit(this.implementableStoryTasks, developer, TaskFilter.ALL);
+        if (best == null) {
             return null;
         }
-        final StoryTask best = determineBestFit(possibleTasks, developer);
+        this.implementableStoryTasks.remove(best);
         this.openStoryTasks.remove(best);
         this.tasksInImplementation.add(best);
         return best;
     }
 
+    /**
+     * Is called when the last prerequisite of the given task has been commited, so that it can be implemented
+     * as soon as it is open.
+     */
+    void handleStoryTaskPrerequisitesGiven(StoryTask task) {
+        if (this.openStoryTasks.contains(task)) {
+            this.implementableStoryTasks.add(task);
+        }
+    }
+
     /**
      * Moves the given task from the "in implemenation" column to the "ready for review" column.
      */
     public void addTaskReadyForReview(Task task) {
         this.removeTaskFromInImplementation(task);
-        this.tasksReadyForReview.add(task);
+        final boolean added = this.tasksReadyForReview.add(task);
+        assert added : "task " + task + " was already ready for review";
     }
 
     /**
@@ -146,16 +202,12 @@ class Board {
      * developer is chosen. Returns null iff there are no tasks ready for review for that developer.
      */
     public Task getTaskToReviewFor(Developer developer) {
-        final List<Task> possibleTasks = new ArrayList<>();
-        for (final Task t : this.tasksReadyForReview) {
-            if (!t.wasImplementedBy(developer)) {
-                possibleTasks.add(t);
-            }
-        }
-        if (possibleTasks.isEmpty()) {
+        //the developer's own tasks are skipped during the search. There are only few of them, because a developer
+        //  cannot have many tasks waiting for review at the same time
+        final Task best = determineBestFit(this.tasksReadyForReview, developer, TaskFilter.NOT_IMPLEMENTED_BY_DEVELOPER);
+        if (best == null) {
             return null;
         }
-        final Task best = determineBestFit(possibleTasks, developer);
         this.tasksReadyForReview.remove(best);
         return best;
     }
@@ -167,28 +219,33 @@ class Board {
      * developer is chosen. Returns null iff there are no tasks with review remarks for that developer.
      */
     public Task getTaskWithReviewRemarksFor(Developer developer) {
-        final List<Task> possibleTasks = new ArrayList<>();
-        for (final Task t : this.tasksWithReviewRemarks) {
-            if (t.wasImplementedBy(developer)) {
-                possibleTasks.add(t);
-            }
-        }
-        if (possibleTasks.isEmpty()) {
+        final Set<Task> possibleTasks = this.tasksWithReviewRemarks.get(developer);
+        if (possibleTasks == null || possibleTasks.isEmpty()) {
             return null;
         }
-        final Task best = determineBestFit(possibleTasks, developer);
-        this.tasksWithReviewRemarks.remove(best);
+        final Task best = determineBestFit(possibleTasks, developer, TaskFilter.ALL);
+        possibleTasks.remove(best);
+        this.tasksWithReviewRemarksCount--;
         this.tasksInImplementation.add(best);
         return best;
     }
 
-    private static <T extends Task> T determineBestFit(Iterable<T> possibleTasks, Developer developer) {
-        TimeInstant bestTime = null;
+    /**
+     * Returns the task whose topic the developer had contact with at the earliest time, tasks with topics he has no contact
+     * with in his memory come last. Topics the developer has forgotten (see {@link TopicMemory}) count as "no contact",
+     * so a topic he last had to do with longer ago than the saturation time of the task switch overhead is no longer
+     * preferred over an unknown one.
+     */
+    private static <T extends Task> T determineBestFit(Iterable<T> tasks, Developer developer, TaskFilter filter) {
+        long bestTime = TopicMemory.NEVER;
         T best = null;
         int iterCount = 0;
-        for (final T t : possibleTasks) {
-            final TimeInstant lastTimeForT = developer.getLastTimeYouHadToDoWith(t);
-            if (best == null || (lastTimeForT != null && (bestTime == null || TimeInstant.isAfter(bestTime, lastTimeForT)))) {
+        for (final T t : tasks) {
+            if (!filter.accepts(t, developer)) {
+                continue;
+            }
+            final long lastTimeForT = developer.getLastTimeYouHadToDoWith(t);
+            if (best == null || (lastTimeForT != TopicMemory.NEVER && (bestTime == TopicMemory.NEVER || bestTime > lastTimeForT))) {
                 bestTime = lastTimeForT;
                 best = t;
             }
@@ -204,7 +261,13 @@ class Board {
      * Moves a task from the "in review" column to the "rejected" column (conceptually; the "in review column is not physically modeled).
      */
     public void addTaskWithReviewRemarks(Task task) {
-        this.tasksWithReviewRemarks.add(task);
+        Set<Task> tasksOfImplementor = this.tasksWithReviewRemarks.get(task.getImplementor());
+        if (tasksOfImplementor == null) {
+            tasksOfImplementor = new LinkedHashSet<>();
+            this.tasksWithReviewRemarks.put(task.getImplementor(), tasksOfImplementor);
+        }
+        tasksOfImplementor.add(task);
+        this.tasksWithReviewRemarksCount++;
     }
 
     /**
@@ -276,7 +339,7 @@ class Board {
      * Returns the number of "rejected" tasks at the moment.
      */
     int countTasksWithReviewRemarks() {
-        return this.tasksWithReviewRemarks.size();
+        return this.tasksWithReviewRemarksCount;
     }
 
 }
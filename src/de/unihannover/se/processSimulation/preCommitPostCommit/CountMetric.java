@@ -0,0 +1,58 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+/**
+ * The events that are counted in the model's {@link Statistics}.
+ */
+enum CountMetric {
+    ISSUES_INJECTED_WHILE_FIXING_REVIEW_REMARKS("issuesInjectedWhileFixingReviewRemarks"),
+    ISSUES_INJECTED_WHILE_FIXING_ISSUES("issuesInjectedWhileFixingIssues"),
+    ISSUES_INJECTED_WHILE_IMPLEMENTING("issuesInjectedWhileImplementing"),
+    ISSUE_COUNT_FOUND_BY_DEVELOPERS("issueCountFoundByDevelopers"),
+    OCCURRED_ISSUES_IN_STORY("occurredIssuesInStory"),
+    OCCURRED_ISSUES_IN_ISSUE("occurredIssuesInIssue"),
+    OCCURRED_GLOBAL_ISSUES("occurredGlobalIssues"),
+    ISSUE_ASSESSMENT_RESULT_ALREADY_OBSERVED("issueAssessmentResultAlreadyObserved"),
+    ISSUE_ASSESSMENT_RESULT_OPEN_STORY_IN_WORK("issueAssessmentResultOPENwithStoryInWork"),
+    ISSUE_ASSESSMENT_RESULT_OPEN_STORY_FINISHED("issueAssessmentResultOPENwithStoryFinished"),
+    ISSUE_ASSESSMENT_RESULT_IN_IMPLEMENTATION_STORY_IN_WORK("issueAssessmentResultIN_IMPLEMENTATIONwithStoryInWork"),
+    ISSUE_ASSESSMENT_RESULT_IN_IMPLEMENTATION_STORY_FINISHED("issueAssessmentResultIN_IMPLEMENTATIONwithStoryFinished"),
+    ISSUE_ASSESSMENT_RESULT_READY_FOR_REVIEW_STORY_IN_WORK("issueAssessmentResultREADY_FOR_REVIEWwithStoryInWork"),
+    ISSUE_ASSESSMENT_RESULT_READY_FOR_REVIEW_STORY_FINISHED("issueAssessmentResultREADY_FOR_REVIEWwithStoryFinished"),
+    ISSUE_ASSESSMENT_RESULT_IN_REVIEW_STORY_IN_WORK("issueAssessmentResultIN_REVIEWwithStoryInWork"),
+    ISSUE_ASSESSMENT_RESULT_IN_REVIEW_STORY_FINISHED("issueAssessmentResultIN_REVIEWwithStoryFinished"),
+    ISSUE_ASSESSMENT_RESULT_REJECTED_STORY_IN_WORK("issueAssessmentResultREJECTEDwithStoryInWork"),
+    ISSUE_ASSESSMENT_RESULT_REJECTED_STORY_FINISHED("issueAssessmentResultREJECTEDwithStoryFinished"),
+    ISSUE_ASSESSMENT_RESULT_DONE_STORY_IN_WORK("issueAssessmentResultDONEwithStoryInWork"),
+    ISSUE_ASSESSMENT_RESULT_DONE_STORY_FINISHED("issueAssessmentResultDONEwithStoryFinished");
+
+    private final String reportName;
+
+    private CountMetric(String reportName) {
+        this.reportName = reportName;
+    }
+
+    /**
+     * Returns the name that is used for this metric in the DESMO-J report.
+     */
+    public String getReportName() {
+        return this.reportName;
+    }
+
+}
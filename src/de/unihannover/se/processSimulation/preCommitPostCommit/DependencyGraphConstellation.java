@@ -17,7 +17,7 @@
 
 package de.unihannover.se.processSimulation.preCommitPostCommit;
 
-import desmoj.core.dist.MersenneTwisterRandomGenerator;
+import de.unihannover.se.processSimulation.common.XoroshiroRandomGenerator;
 
 /**
  * The tasks of a story can have dependencies, i.e. they form a dependy graph. This enum
@@ -30,7 +30,7 @@ public enum DependencyGraphConstellation {
      */
     SIMPLISTIC {
         @Override
-        public GraphGenerator createGenerator(MersenneTwisterRandomGenerator random) {
+        public GraphGenerator createGenerator(XoroshiroRandomGenerator random) {
             final GraphGenerator g = new GraphGenerator(random);
             g.addTemplate("A->B;A->C", 1);
             return g;
@@ -42,7 +42,7 @@ public enum DependencyGraphConstellation {
      */
     NO_SUBDIVISION {
         @Override
-        public GraphGenerator createGenerator(MersenneTwisterRandomGenerator random) {
+        public GraphGenerator createGenerator(XoroshiroRandomGenerator random) {
             final GraphGenerator g = new GraphGenerator(random);
             g.addTemplate("A", 1);
             return g;
@@ -54,7 +54,7 @@ public enum DependencyGraphConstellation {
      */
     REALISTIC {
         @Override
-        public GraphGenerator createGenerator(MersenneTwisterRandomGenerator random) {
+        public GraphGenerator createGenerator(XoroshiroRandomGenerator random) {
             final GraphGenerator g = new GraphGenerator(random);
             g.addTemplate("A", 14);
             g.addTemplate("A;B", 5);
@@ -91,7 +91,7 @@ public enum DependencyGraphConstellation {
      */
     NO_DEPENDENCIES {
         @Override
-        public GraphGenerator createGenerator(MersenneTwisterRandomGenerator random) {
+        public GraphGenerator createGenerator(XoroshiroRandomGenerator random) {
             final GraphGenerator g = new GraphGenerator(random);
             g.addTemplate("A", 28);
             g.addTemplate("A;B", 22);
@@ -119,7 +119,7 @@ public enum DependencyGraphConstellation {
      */
     CHAINS {
         @Override
-        public GraphGenerator createGenerator(MersenneTwisterRandomGenerator random) {
+        public GraphGenerator createGenerator(XoroshiroRandomGenerator random) {
             final GraphGenerator g = new GraphGenerator(random);
             g.addTemplate("A->B", 32);
             g.addTemplate("A->B->C", 20);
@@ -147,7 +147,7 @@ public enum DependencyGraphConstellation {
      */
     DIAMONDS {
         @Override
-        public GraphGenerator createGenerator(MersenneTwisterRandomGenerator random) {
+        public GraphGenerator createGenerator(XoroshiroRandomGenerator random) {
             final GraphGenerator g = new GraphGenerator(random);
             g.addTemplate("A->C->B", 32);
             g.addTemplate("A->C->B;A->D->B;", 22);
@@ -170,6 +170,6 @@ public enum DependencyGraphConstellation {
     /**
      * Returns a {@link GraphGenerator} for the enum value'S type of structure, using the given random number generator.
      */
-    abstract GraphGenerator createGenerator(MersenneTwisterRandomGenerator random);
+    abstract GraphGenerator createGenerator(XoroshiroRandomGenerator random);
 
 }
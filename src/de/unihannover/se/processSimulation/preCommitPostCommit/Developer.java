@@ -17,14 +17,8 @@
 
 package de.unihannover.se.processSimulation.preCommitPostCommit;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
-
-import co.paralleluniverse.fibers.SuspendExecution;
-import desmoj.core.dist.BoolDistBernoulli;
-import desmoj.core.dist.ContDist;
 import desmoj.core.dist.ContDistConstant;
-import desmoj.core.simulator.TimeInstant;
+import desmoj.core.dist.ContDistUniform;
 
 /**
  * Representation of a software developer. Software developers are the main active processes of the model.
@@ -32,96 +26,158 @@ import desmoj.core.simulator.TimeInstant;
  *
  * Every developer has certain skills: For implementation (issues injected/hour and chance to insert a global issue
  * during implementation) and for reviewing (chance to detect a issue in review).
- * A developer also has a "memory" where he knows when he last had contact with a certain topic.
+ * A developer also has a "memory" where he knows when he last had contact with a certain topic. Topics he did not have
+ * contact with for so long that the task switch overhead is at its maximum anyway are forgotten, i.e. they are treated
+ * like topics he never had contact with.
+ *
+ * The developer decides what to do next and the tasks describe how the work is done (as {@link Activity}). The execution
+ * in simulation time is left to a {@link Driver}, depending on the chosen {@link DeveloperEngine}.
  */
-class Developer extends PrePostProcess {
+class Developer extends PrePostEntity {
 
-    private final BoolDistBernoulli reviewerSkill;
-    private final BoolDistBernoulli globalIssueDist;
-    private final Map<String, TimeInstant> memory;
-    private final ContDist implementationSkill;
+    /**
+     * Executes the activities of a developer in simulation time.
+     */
+    interface Driver {
+        /**
+         * Lets the developer start working, or continue working when he waits for activation.
+         */
+        public abstract void activate();
+
+        /**
+         * Abandons the developer's current activity (and all pending waits for it) and lets him start anew
+         * with his next activity.
+         */
+        public abstract void restart();
+
+        /**
+         * Stops the developer's work for good and frees the resources bound by it (e.g. threads).
+         */
+        public default void terminate() {
+        }
+    }
+
+    private double reviewerSkill;
+    private final ContDistUniform reviewRandom;
+    private double globalIssueProbability;
+    private final ContDistUniform globalIssueRandom;
+    private double implementationSkill;
+    //additionally as distribution, so that it can be seen in the DESMO report
+    private ContDistConstant implementationSkillReport;
+    private final TopicMemory memory;
+    private final Driver driver;
 
     /**
      * Creates a developer with the given skills.
      */
     public Developer(PrePostModel owner, double reviewerSkill, double globalIssueProbability, double implementationSkill) {
         super(owner, "developer");
-        this.reviewerSkill = new BoolDistBernoulli(owner, "reviewerSkill-" + this, reviewerSkill, true, true);
-        this.globalIssueDist = new BoolDistBernoulli(owner, "globalIssueDist-" + this, globalIssueProbability, true, true);
-        //as distribution, so that it can be seen in the DESMO report
-        this.implementationSkill = new ContDistConstant(owner, "implementationSkill-" + this, implementationSkill, true, false);
-        this.memory = new LinkedHashMap<>();
+        this.reviewerSkill = reviewerSkill;
+        this.reviewRandom = new ContDistUniform(owner, "reviewRandom-" + this, 0.0, 1.0, true, false);
+        owner.addRandomStream(this.reviewRandom);
+        this.globalIssueProbability = globalIssueProbability;
+        this.globalIssueRandom = new ContDistUniform(owner, "globalIssueDist-" + this, 0.0, 1.0, true, true);
+        owner.addRandomStream(this.globalIssueRandom);
+        this.implementationSkill = implementationSkill;
+        this.implementationSkillReport = this.createImplementationSkillReport();
+        this.memory = new TopicMemory(owner.getTaskSwitchOverhead().getSaturationTime());
+        this.driver = owner.getDeveloperEngine().createDriver(owner, this);
+    }
+
+    private ContDistConstant createImplementationSkillReport() {
+        return new ContDistConstant(this.getModel(), "implementationSkill-" + this, this.implementationSkill, true, false);
+    }
+
+    /**
+     * Lets the developer start working, or continue working when he waits for activation.
+     */
+    public void activate() {
+        this.driver.activate();
+    }
+
+    /**
+     * Lets the developer start anew with the given skills and an empty memory, as if he was just created.
+     * The work he is currently doing is abandoned.
+     */
+    void restart(double reviewerSkill, double globalIssueProbability, double implementationSkill) {
+        this.reviewerSkill = reviewerSkill;
+        this.globalIssueProbability = globalIssueProbability;
+        this.implementationSkill = implementationSkill;
+        this.implementationSkillReport.reportOff();
+        this.implementationSkillReport = this.createImplementationSkillReport();
+        this.memory.clear();
+        this.driver.restart();
     }
 
     /**
-     * Perform the developers work: Look at the board what to do next, do it, and repeat until infinity (which is actually quite finite).
+     * Stops the developer's work for good. Must be called when the experiment is finished.
+     */
+    void terminate() {
+        this.driver.terminate();
+    }
+
+    /**
+     * Determine the developers next work: Look at the board what to do next and return the corresponding activity.
+     * The drivers do this again and again until infinity (which is actually quite finite).
      * The possible things to do have a strict priority order, with "issue assessment" being the most important and "help another developer
      * in story planning" the least important.
      */
-    @Override
-    public void lifeCycle() throws SuspendExecution {
-        while (true) {
-            final Board board = this.getBoard();
-
-            final NormalIssue unassessedIssue = board.getUnassessedIssue();
-            final TimeInstant startTime = this.presentTime();
-            if (unassessedIssue != null) {
-                final Task issuegyTask = unassessedIssue.getTask();
-                issuegyTask.performIssueAssessment(this, unassessedIssue);
-                this.saveLastTimeIHadToDoWith(issuegyTask);
-                this.getModel().countTime("timeFor_assessingIssues", startTime);
-                continue;
-            }
-
-            final Task taskWithReviewRemarks = board.getTaskWithReviewRemarksFor(this);
-            if (taskWithReviewRemarks != null) {
-                taskWithReviewRemarks.performFixingOfReviewRemarks(this);
-                this.saveLastTimeIHadToDoWith(taskWithReviewRemarks);
-                this.getModel().countTime("timeFor_fixingReviewRemarks", startTime);
-                continue;
-            }
-
-            final Task taskToReview = board.getTaskToReviewFor(this);
-            if (taskToReview != null) {
-                taskToReview.performReview(this);
-                this.saveLastTimeIHadToDoWith(taskToReview);
-                this.getModel().countTime("timeFor_reviewing", startTime);
-                continue;
-            }
-
-            final IssueFixTask issueToFix = board.getIssueToFix(this);
-            if (issueToFix != null) {
-                issueToFix.performImplementation(this);
-                this.saveLastTimeIHadToDoWith(issueToFix);
-                this.getModel().countTime("timeFor_fixingIssues", startTime);
-                continue;
-            }
-
-            final StoryTask taskToImplement = board.getTaskToImplement(this);
-            if (taskToImplement != null) {
-                taskToImplement.performImplementation(this);
-                this.saveLastTimeIHadToDoWith(taskToImplement);
-                this.getModel().countTime("timeFor_implementing", startTime);
-                continue;
-            }
-
-            final Story toPlan = board.getStoryToPlan();
-            toPlan.plan(this);
-            this.saveLastTimeIHadToDoWith(toPlan);
-            this.getModel().countTime("timeFor_planning", startTime);
+    Activity nextActivity() {
+        final Board board = this.getBoard();
+
+        final NormalIssue unassessedIssue = board.getUnassessedIssue();
+        final long startTime = this.getModel().presentTick();
+        if (unassessedIssue != null) {
+            final Task issuegyTask = unassessedIssue.getTask();
+            return issuegyTask.performIssueAssessment(this, unassessedIssue)
+                .then(() -> this.finishWork(issuegyTask, TimeMetric.ASSESSING_ISSUES, startTime));
+        }
+
+        final Task taskWithReviewRemarks = board.getTaskWithReviewRemarksFor(this);
+        if (taskWithReviewRemarks != null) {
+            return taskWithReviewRemarks.performFixingOfReviewRemarks(this)
+                .then(() -> this.finishWork(taskWithReviewRemarks, TimeMetric.FIXING_REVIEW_REMARKS, startTime));
+        }
+
+        final Task taskToReview = board.getTaskToReviewFor(this);
+        if (taskToReview != null) {
+            return taskToReview.performReview(this)
+                .then(() -> this.finishWork(taskToReview, TimeMetric.REVIEWING, startTime));
         }
+
+        final IssueFixTask issueToFix = board.getIssueToFix(this);
+        if (issueToFix != null) {
+            return issueToFix.performImplementation(this)
+                .then(() -> this.finishWork(issueToFix, TimeMetric.FIXING_ISSUES, startTime));
+        }
+
+        final StoryTask taskToImplement = board.getTaskToImplement(this);
+        if (taskToImplement != null) {
+            return taskToImplement.performImplementation(this)
+                .then(() -> this.finishWork(taskToImplement, TimeMetric.IMPLEMENTING, startTime));
+        }
+
+        final Story toPlan = board.getStoryToPlan();
+        return toPlan.plan(this)
+            .then(() -> this.finishWork(toPlan, TimeMetric.PLANNING, startTime));
+    }
+
+    private void finishWork(MemoryItem item, TimeMetric timeMetric, long startTime) {
+        this.saveLastTimeIHadToDoWith(item);
+        this.getModel().countTime(timeMetric, startTime);
     }
 
     private void saveLastTimeIHadToDoWith(MemoryItem task) {
-        this.memory.put(task.getMemoryKey(), this.presentTime());
+        this.memory.put(task.getMemoryKey(), this.getModel().presentTick());
     }
 
     /**
-     * Returns the last time the developer had to do with the given item's topic.
-     * Returns null iff he never had contact with that topic before.
+     * Returns the last time (in epsilon) the developer had to do with the given item's topic.
+     * Returns {@link TopicMemory#NEVER} iff he never had contact with that topic before, or it was so long ago that
+     * he forgot about it.
      */
-    public TimeInstant getLastTimeYouHadToDoWith(MemoryItem item) {
-        return this.memory.get(item.getMemoryKey());
+    public long getLastTimeYouHadToDoWith(MemoryItem item) {
+        return this.memory.get(item.getMemoryKey(), this.getModel().presentTick());
     }
 
     /**
@@ -130,22 +186,24 @@ class Developer extends PrePostProcess {
      * Returns true iff this is the case.
      */
     public boolean makesBlockerIssue() {
-        return this.globalIssueDist.sample();
+        return this.globalIssueRandom.sample() < this.globalIssueProbability;
     }
 
     /**
      * Returns this developer's implementation skill.
      */
     public double getImplementationSkill() {
-        return this.implementationSkill.sample();
+        return this.implementationSkill;
     }
 
     /**
-     * Samples a value from the underlying random distribution to determine if
-     * the developer will find a issue in review. Returns true iff this is the case.
+     * Determines which of the given number of lurking issues the developer finds in review. Every issue
+     * is found with the reviewer's skill as probability, independent of the other issues.
+     * Returns the indices of the found issues in ascending order.
      */
-    public boolean findsIssue() {
-        return this.reviewerSkill.sample();
+    public int[] findIssues(int lurkingIssueCount) {
+        final int foundCount = BinomialSampling.sampleCount(this.reviewRandom::sample, lurkingIssueCount, this.reviewerSkill);
+        return BinomialSampling.chooseIndices(this.reviewRandom::sample, lurkingIssueCount, foundCount);
     }
 
 }
@@ -0,0 +1,38 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+/**
+ * Creates the {@link Developer.Driver}s and thereby determines how the developers' work is executed in simulation time.
+ * The engines that only need the core are the constants of {@link DeveloperEngine}. Engines with further requirements
+ * are contained in separate modules and register their factory for the {@link java.util.ServiceLoader}
+ * (in META-INF/services), they are found with {@link DeveloperEngine#byName}.
+ */
+public interface DeveloperDriverFactory {
+
+    /**
+     * Returns the name of the engine, which is used to choose it.
+     */
+    public abstract String name();
+
+    /**
+     * Creates the driver for the given developer.
+     */
+    public abstract Developer.Driver createDriver(PrePostModel owner, Developer developer);
+
+}
@@ -0,0 +1,69 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import java.util.ServiceLoader;
+
+/**
+ * The way the developers' work is executed in simulation time. All engines lead to exactly the same results,
+ * they only differ in speed and in their technical requirements. Further engines can be provided by other modules,
+ * see {@link #byName}.
+ */
+public enum DeveloperEngine implements DeveloperDriverFactory {
+
+    /**
+     * Every developer is a DESMO-J process. Needs Quasar fibers (with the corresponding java agent) to be fast,
+     * otherwise one thread per developer is used.
+     */
+    PROCESSES {
+        @Override
+        public Developer.Driver createDriver(PrePostModel owner, Developer developer) {
+            return new DeveloperProcess(owner, developer);
+        }
+    },
+
+    /**
+     * The developers are driven by DESMO-J events. Does not need coroutines or threads at all.
+     */
+    EVENTS {
+        @Override
+        public Developer.Driver createDriver(PrePostModel owner, Developer developer) {
+            return new DeveloperEvent(owner, developer);
+        }
+    };
+
+    /**
+     * Returns the engine with the given name: Either one of the constants or an engine that is registered by
+     * another module for the {@link ServiceLoader}, like "VIRTUAL_THREADS" from the module virtualThreads.
+     */
+    public static DeveloperDriverFactory byName(String name) {
+        for (final DeveloperEngine e : values()) {
+            if (e.name().equals(name)) {
+                return e;
+            }
+        }
+        for (final DeveloperDriverFactory f : ServiceLoader.load(DeveloperDriverFactory.class)) {
+            if (f.name().equals(name)) {
+                return f;
+            }
+        }
+        throw new IllegalArgumentException("Unknown developer engine " + name
+                        + ". Engines from other modules are only available when the module is on the classpath.");
+    }
+
+}
@@ -0,0 +1,70 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import desmoj.core.simulator.ExternalEvent;
+import desmoj.core.simulator.TimeSpan;
+
+/**
+ * Executes the activities of a {@link Developer} with DESMO-J events: Instead of holding, the event is scheduled
+ * again for the time the next step of the current activity shall be performed. This needs no context switches.
+ */
+class DeveloperEvent extends ExternalEvent implements Developer.Driver {
+
+    private final Developer developer;
+    private Activity currentActivity;
+
+    public DeveloperEvent(PrePostModel owner, Developer developer) {
+        super(owner, "developer", true);
+        this.developer = developer;
+    }
+
+    @Override
+    public void activate() {
+        this.schedule(new TimeSpan(0));
+    }
+
+    @Override
+    public void restart() {
+        if (this.isScheduled()) {
+            this.cancel();
+        }
+        this.currentActivity = null;
+        this.schedule(new TimeSpan(0));
+    }
+
+    @Override
+    public void eventRoutine() {
+        while (true) {
+            if (this.currentActivity == null) {
+                this.currentActivity = this.developer.nextActivity();
+            }
+            final TimeSpan timeToWait = this.currentActivity.proceed();
+            if (timeToWait != null) {
+                this.schedule(timeToWait);
+                return;
+            }
+            if (!this.currentActivity.isFinished()) {
+                //wait until activated by someone else
+                return;
+            }
+            this.currentActivity = null;
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import co.paralleluniverse.fibers.SuspendExecution;
+import desmoj.core.simulator.TimeSpan;
+
+/**
+ * Executes the activities of a {@link Developer} as a DESMO-J process, i.e. every wait is a hold or passivate.
+ */
+class DeveloperProcess extends PrePostProcess implements Developer.Driver {
+
+    private final Developer developer;
+    private boolean restarting;
+
+    public DeveloperProcess(PrePostModel owner, Developer developer) {
+        super(owner, "developer");
+        this.developer = developer;
+    }
+
+    @Override
+    public void lifeCycle() throws SuspendExecution {
+        while (true) {
+            this.restarting = false;
+            final Activity activity = this.developer.nextActivity();
+            while (true) {
+                final TimeSpan timeToWait = activity.proceed();
+                if (timeToWait != null) {
+                    this.hold(timeToWait);
+                } else if (activity.isFinished()) {
+                    break;
+                } else {
+                    this.passivate();
+                }
+                if (this.restarting) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void restart() {
+        //the process is blocked in hold or passivate, so it is reactivated and then abandons its activity
+        if (this.isScheduled()) {
+            this.cancel();
+        }
+        this.restarting = true;
+        this.activate();
+    }
+
+}
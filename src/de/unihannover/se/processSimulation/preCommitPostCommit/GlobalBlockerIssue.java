@@ -55,7 +55,7 @@ class GlobalBlockerIssue extends Issue {
     protected void becomeVisible(boolean byCustomer) {
         assert !byCustomer;
         this.setWasObserved();
-        this.getModel().dynamicCount("occurredGlobalIssues");
+        this.getModel().count(CountMetric.OCCURRED_GLOBAL_ISSUES);
         //TODO: wenn gerade nichts im Implementierung ist wird das Problem gelöst, ohne dass es Zeit gekostet hat. Das ist unrealistisch. Ist das schlimm?
         for (final Task t : this.getBoard().getAllTasksInImplementation()) {
             t.suspendImplementation(this.getModel().getParameters().getGlobalIssueSuspendTimeDist().sampleTimeSpan(TimeUnit.HOURS));
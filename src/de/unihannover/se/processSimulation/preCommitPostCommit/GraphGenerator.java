@@ -22,7 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import desmoj.core.dist.MersenneTwisterRandomGenerator;
+import de.unihannover.se.processSimulation.common.XoroshiroRandomGenerator;
 
 /**
  * A helper class to create dependency graphs.
@@ -46,25 +46,96 @@ class GraphGenerator {
         public abstract void connect(N from, N to);
     }
 
-    private final MersenneTwisterRandomGenerator random;
-    private final List<String> descriptions;
+    /**
+     * A graph template in compiled form: The nodes are numbered in the order of their first occurrence in the
+     * description and the edges are stored in the order they were given.
+     */
+    static final class Template {
+        private final int nodeCount;
+        private final int[] edgeFrom;
+        private final int[] edgeTo;
+
+        private Template(int nodeCount, int[] edgeFrom, int[] edgeTo) {
+            this.nodeCount = nodeCount;
+            this.edgeFrom = edgeFrom;
+            this.edgeTo = edgeTo;
+        }
+
+        /**
+         * Parses the given textual description of a graph (see {@link GraphGenerator#addTemplate(String, int)}).
+         */
+        static Template compile(String description) {
+            final Map<String, Integer> nodeMapping = new HashMap<>();
+            final List<int[]> edges = new ArrayList<>();
+            final String[] parts = description.split(";");
+            for (final String part : parts) {
+                final String[] nodes = part.split("->");
+                String current = nodes[0].trim();
+                assert !current.isEmpty();
+                nodeMapping.putIfAbsent(current, nodeMapping.size());
+                for (int i = 1; i < nodes.length; i++) {
+                    final String next = nodes[i].trim();
+                    assert !next.isEmpty();
+                    nodeMapping.putIfAbsent(next, nodeMapping.size());
+                    edges.add(new int[] {nodeMapping.get(current), nodeMapping.get(next)});
+                    current = next;
+                }
+            }
+            final int[] edgeFrom = new int[edges.size()];
+            final int[] edgeTo = new int[edges.size()];
+            for (int i = 0; i < edges.size(); i++) {
+                edgeFrom[i] = edges.get(i)[0];
+                edgeTo[i] = edges.get(i)[1];
+            }
+            return new Template(nodeMapping.size(), edgeFrom, edgeTo);
+        }
+
+        /**
+         * Creates the nodes and edges of this template using the given factory.
+         */
+        @SuppressWarnings("unchecked")
+        <NODE> void instantiate(GraphItemFactory<NODE> factory) {
+            final Object[] nodes = new Object[this.nodeCount];
+            for (int i = 0; i < this.nodeCount; i++) {
+                nodes[i] = factory.createNode();
+            }
+            for (int i = 0; i < this.edgeFrom.length; i++) {
+                factory.connect((NODE) nodes[this.edgeFrom[i]], (NODE) nodes[this.edgeTo[i]]);
+            }
+        }
+    }
+
+    private final XoroshiroRandomGenerator random;
+    private final List<Template> templates;
 
     /**
      * Constructs a graph generator using the given random number source.
      */
-    public GraphGenerator(MersenneTwisterRandomGenerator random) {
-        this.descriptions = new ArrayList<>();
+    public GraphGenerator(XoroshiroRandomGenerator random) {
+        this.templates = new ArrayList<>();
         this.random = random;
     }
 
+    /**
+     * Restarts the random number source with the given seed.
+     */
+    public void setSeed(long seed) {
+        this.random.setSeed(seed);
+    }
+
     /**
      * Registers a graph template. The higher count, the higher its probability for occurrence.
      * In the description syntax "->" stands for edges and ";" can be used to separate these paths, i.e.
      * "A->B;C" creates a graph with three nodes, of which two are connected by an edge.
+     * The description is parsed only once, here.
      */
     public void addTemplate(String description, int count) {
+        if (count <= 0) {
+            return;
+        }
+        final Template template = Template.compile(description);
         for (int i = 0; i < count; i++) {
-            this.descriptions.add(description);
+            this.templates.add(template);
         }
     }
 
@@ -72,29 +143,10 @@ class GraphGenerator {
      * Generate a graph using the given {@link GraphItemFactory}.
      */
     public<NODE> void generateGraph(GraphItemFactory<NODE> factory) {
-        this.parseDescription(this.descriptions.get(this.random.nextInt(16) % this.descriptions.size()), factory);
-    }
-
-    private<NODE> void parseDescription(String string, GraphItemFactory<NODE> fac) {
-        final Map<String, NODE> nodeMapping = new HashMap<>();
-        final String[] parts = string.split(";");
-        for (final String part : parts) {
-            final String[] nodes = part.split("->");
-            String current = nodes[0].trim();
-            assert !current.isEmpty();
-            if (!nodeMapping.containsKey(current)) {
-                nodeMapping.put(current, fac.createNode());
-            }
-            for (int i = 1; i < nodes.length; i++) {
-                final String next = nodes[i].trim();
-                assert !next.isEmpty();
-                if (!nodeMapping.containsKey(next)) {
-                    nodeMapping.put(next, fac.createNode());
-                }
-                fac.connect(nodeMapping.get(current), nodeMapping.get(next));
-                current = next;
-            }
-        }
+        //this is the model's original choice of the template: only the first 16 registered entries can be chosen, and
+        //  the choice is biased when their count is not a power of two. Drawing an unbiased index would change the
+        //  simulation results, so it has to be done as a deliberate change of the model.
+        this.templates.get(this.random.nextInt(16) % this.templates.size()).instantiate(factory);
     }
 
 }
@@ -30,8 +30,10 @@ import desmoj.core.simulator.TimeSpan;
  * An issue is injected into the source code during implementation. After some event (commit/deploy to customer), it can become visible to a developer
  * or customer. When it becomes visible, it has to be handled in the development process. An issue can also be "fixed", which prevents it from
  * becoming visible in the future.
+ *
+ * Issues are created in large numbers, therefore they are not DESMO-J entities but plain objects.
  */
-abstract class Issue extends PrePostEntity {
+abstract class Issue {
 
     /**
      * Event that makes an issue visible when it occurs.
@@ -48,7 +50,9 @@ abstract class Issue extends PrePostEntity {
 
         @Override
         public void eventRoutine() {
-            if (!Issue.this.fixed) {
+            Issue.this.removePendingEvent(this);
+            //events of issues from an abandoned replication can still be in the event list after a reset of the model
+            if (!Issue.this.fixed && Issue.this.replication == Issue.this.getModel().getReplication()) {
                 Issue.this.becomeVisible(this.byCustomer);
             }
         }
@@ -56,19 +60,34 @@ abstract class Issue extends PrePostEntity {
     }
 
     private final Task task;
+    private final String name;
+    private final int number;
+    private final int replication;
     private boolean startedForDevelopers;
     private boolean startedForCustomers;
     private boolean fixed;
     private boolean wasObserved;
-    private final TimeSpan fixEffort;
+    private TimeSpan fixEffort;
+    //the scheduled events are kept so that they can be removed from the event list when the issue is fixed
+    private IssueBecomesVisibleEvent pendingDeveloperEvent;
+    private IssueBecomesVisibleEvent pendingCustomerEvent;
 
     /**
      * Creates a new issue that was injected during implementation of the given task.
      */
     public Issue(Task task, String name) {
-        super(task.getModel(), name);
         this.task = task;
-        this.fixEffort = task.getModel().getParameters().getReviewRemarkFixDist().sampleTimeSpan(TimeUnit.HOURS);
+        this.name = name;
+        this.number = task.getModel().nextIssueNumber();
+        this.replication = task.getModel().getReplication();
+    }
+
+    protected PrePostModel getModel() {
+        return this.task.getModel();
+    }
+
+    protected Board getBoard() {
+        return this.getModel().getBoard();
     }
 
     /**
@@ -82,7 +101,8 @@ abstract class Issue extends PrePostEntity {
         this.startedForDevelopers = true;
         final TimeSpan t = this.getActivationTimeForDevelopers();
         if (t != null) {
-            new IssueBecomesVisibleEvent(this.getModel(), this.getName(), false).schedule(t);
+            this.pendingDeveloperEvent = new IssueBecomesVisibleEvent(this.getModel(), this.toString(), false);
+            this.pendingDeveloperEvent.schedule(t);
         }
     }
 
@@ -97,7 +117,17 @@ abstract class Issue extends PrePostEntity {
         this.startedForCustomers = true;
         final TimeSpan t = this.getActivationTimeForCustomers();
         if (t != null) {
-            new IssueBecomesVisibleEvent(this.getModel(), this.getName(), true).schedule(t);
+            this.pendingCustomerEvent = new IssueBecomesVisibleEvent(this.getModel(), this.toString(), true);
+            this.pendingCustomerEvent.schedule(t);
+        }
+    }
+
+    private void removePendingEvent(IssueBecomesVisibleEvent event) {
+        if (this.pendingDeveloperEvent == event) {
+            this.pendingDeveloperEvent = null;
+        }
+        if (this.pendingCustomerEvent == event) {
+            this.pendingCustomerEvent = null;
         }
     }
 
@@ -120,16 +150,27 @@ abstract class Issue extends PrePostEntity {
 
     /**
      * Marks this issue as fixed. A fixed issue can not become visible any more and can not be observed
-     * in a review, too.
+     * in a review, too. Events that would have made it visible are removed from the event list, so that
+     * they don't accumulate over long simulation runs.
      */
     public final void fix() {
         assert this.wasObserved;
         assert !this.fixed;
 
         this.fixed = true;
+        cancelIfScheduled(this.pendingDeveloperEvent);
+        cancelIfScheduled(this.pendingCustomerEvent);
+        this.pendingDeveloperEvent = null;
+        this.pendingCustomerEvent = null;
         this.task.handleIssueFixed(this);
     }
 
+    private static void cancelIfScheduled(IssueBecomesVisibleEvent event) {
+        if (event != null && event.isScheduled()) {
+            event.cancel();
+        }
+    }
+
     /**
      * Returns the task which injected this issue.
      */
@@ -146,8 +187,12 @@ abstract class Issue extends PrePostEntity {
 
     /**
      * The time/effort needed to fix this problem when it is fixed as a review remark.
+     * Most issues are never fixed, so the effort is only sampled when it is needed for the first time.
      */
     public TimeSpan getFixEffort() {
+        if (this.fixEffort == null) {
+            this.fixEffort = this.getModel().getParameters().getReviewRemarkFixDist().sampleTimeSpan(TimeUnit.HOURS);
+        }
         return this.fixEffort;
     }
 
@@ -165,4 +210,9 @@ abstract class Issue extends PrePostEntity {
         return this.wasObserved;
     }
 
+    @Override
+    public String toString() {
+        return this.name + "#" + this.number;
+    }
+
 }
@@ -49,7 +49,7 @@ class IssueFixTask extends Task {
      * Belongs to the same topic as the task during which the issue was injected.
      */
     @Override
-    public String getMemoryKey() {
+    public int getMemoryKey() {
         return this.cachedStory.getMemoryKey();
     }
 
@@ -94,9 +94,7 @@ class IssueFixTask extends Task {
         if (this.cachedStory.isFinished()) {
             this.startLurkingIssuesForCustomer();
         } else {
-            if (this.cachedStory.canBeFinished()) {
-                this.cachedStory.finish();
-            }
+            this.cachedStory.handleIssueFixBeforeFinishFinished(this);
         }
     }
 
@@ -24,8 +24,8 @@ package de.unihannover.se.processSimulation.preCommitPostCommit;
 interface MemoryItem {
 
     /**
-     * Returns a unique key for the "topic" of this item.
+     * Returns a unique key for the "topic" of this item. The keys are small non-negative numbers.
      */
-    public abstract String getMemoryKey();
+    public abstract int getMemoryKey();
 
 }
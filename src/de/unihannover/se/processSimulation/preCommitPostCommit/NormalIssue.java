@@ -79,12 +79,12 @@ class NormalIssue extends Issue {
         if (byCustomer) {
             this.getModel().countIssueFoundByCustomer();
         } else {
-            this.getModel().dynamicCount("issueCountFoundByDevelopers");
+            this.getModel().count(CountMetric.ISSUE_COUNT_FOUND_BY_DEVELOPERS);
         }
         if (this.getTask() instanceof StoryTask) {
-            this.getModel().dynamicCount("occurredIssuesInStory");
+            this.getModel().count(CountMetric.OCCURRED_ISSUES_IN_STORY);
         } else {
-            this.getModel().dynamicCount("occurredIssuesInIssue");
+            this.getModel().count(CountMetric.OCCURRED_ISSUES_IN_ISSUE);
         }
         this.getBoard().addUnassessedIssue(this);
     }
@@ -18,24 +18,22 @@
 package de.unihannover.se.processSimulation.preCommitPostCommit;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import de.unihannover.se.processSimulation.common.Parameters;
 import de.unihannover.se.processSimulation.common.ParametersFactory;
 import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.common.XoroshiroRandomGenerator;
 import de.unihannover.se.processSimulation.preCommitPostCommit.SourceRepository.SourceRepositoryDependencies;
-import desmoj.core.dist.MersenneTwisterRandomGenerator;
+import desmoj.core.dist.Distribution;
 import desmoj.core.dist.UniformRandomGenerator;
 import desmoj.core.simulator.Experiment;
 import desmoj.core.simulator.ExternalEventReset;
 import desmoj.core.simulator.Model;
+import desmoj.core.simulator.ModelComponent;
 import desmoj.core.simulator.TimeInstant;
-import desmoj.core.simulator.TimeOperations;
 import desmoj.core.simulator.TimeSpan;
-import desmoj.core.statistic.Aggregate;
 import desmoj.core.statistic.Count;
 import desmoj.core.statistic.Tally;
 
@@ -50,7 +48,17 @@ public class PrePostModel extends Model {
         Experiment.setReferenceUnit(TimeUnit.HOURS);
     }
 
+    /**
+     * Value for hoursToReset to denote that the statistics shall not be reset automatically (i.e. that
+     * the caller decides when the startup phase is over).
+     */
+    public static final int NO_AUTOMATIC_RESET = -1;
+
+    private static final String GENERIC_RANDOM_STREAM = "genericRandom";
+    private static final String DEPENDENCY_GRAPH_STREAM = "dependencyGraph";
+
     private final ReviewMode reviewMode;
+    private final DeveloperDriverFactory developerEngine;
     private final boolean plot;
     private final int hoursToReset;
 
@@ -67,27 +75,47 @@ public class PrePostModel extends Model {
     private Tally issuesInjectedPerReviewRemark;
     private Tally issuesInjectedPerIssueTask;
     private Tally issuesInjectedPerImplementationTask;
-    private final Map<String, Aggregate> timeCounters = new HashMap<>();
-    private final Map<String, Count> dynamicCounters = new HashMap<>();
+    private Statistics statistics;
+    private final double ticksPerHour = new TimeSpan(1, TimeUnit.HOURS).getTimeInEpsilon();
+    private TaskSwitchOverhead taskSwitchOverhead;
 
     private final List<Developer> developers = new ArrayList<>();
     private final ParametersFactory parameterFactory;
     private Parameters parameters;
 
+    private long seed;
+    private final List<Distribution> randomStreams = new ArrayList<>();
     private UniformRandomGenerator genericRandom;
+    private int issueCounter;
+    private int storyCounter;
+    private int replication;
     private GraphGenerator dependencyGraphGenerator;
 
     /**
      * Creates a model with the given parameters and the given {@link ReviewMode}.
      */
     public PrePostModel(String name, ReviewMode reviewMode, ParametersFactory parameterFactory, boolean plot, int hoursToReset) {
+        this(name, reviewMode, DeveloperEngine.PROCESSES, parameterFactory, plot, hoursToReset);
+    }
+
+    /**
+     * Creates a model with the given parameters and the given {@link ReviewMode}, whose developers' work is
+     * executed by the given engine.
+     */
+    public PrePostModel(String name, ReviewMode reviewMode, DeveloperDriverFactory developerEngine,
+                    ParametersFactory parameterFactory, boolean plot, int hoursToReset) {
         super(null, name, true, true);
         this.reviewMode = reviewMode;
+        this.developerEngine = developerEngine;
         this.parameterFactory = parameterFactory;
         this.plot = plot;
         this.hoursToReset = hoursToReset;
     }
 
+    DeveloperDriverFactory getDeveloperEngine() {
+        return this.developerEngine;
+    }
+
     @Override
     public String description() {
         return "Modell zum Vergleich von Pre-commit und Post-commit-Reviews anhand der Simulation eines Entwicklungsprozesses.";
@@ -98,10 +126,14 @@ public class PrePostModel extends Model {
      */
     @Override
     public void init() {
+        this.seed = this.parameterFactory.getSeed();
         this.parameters = this.parameterFactory.create(this);
-        this.genericRandom = new MersenneTwisterRandomGenerator(this.getParameters().getGenericRandomSeed());
+        for (final Distribution d : this.parameters.getDistributions()) {
+            this.addRandomStream(d);
+        }
+        this.genericRandom = XoroshiroRandomGenerator.forStream(this.seed, GENERIC_RANDOM_STREAM);
         this.dependencyGraphGenerator = this.parameters.getDependencyGraphConstellation().createGenerator(
-                        new MersenneTwisterRandomGenerator(this.getParameters().getGenericRandomSeed() + 8654));
+                        XoroshiroRandomGenerator.forStream(this.seed, DEPENDENCY_GRAPH_STREAM));
 
         this.board = new Board(this);
         this.sourceRepository = new SourceRepository<Task>(new SourceRepositoryDependencies() {
@@ -110,8 +142,12 @@ public class PrePostModel extends Model {
                 return PrePostModel.this.presentTime();
             }
             @Override
-            public boolean sampleConflictDist() {
-                return PrePostModel.this.getParameters().getConflictDist().sample();
+            public long sampleNonConflictingCommitCount() {
+                return (long) Math.floor(PrePostModel.this.getParameters().getNonConflictingCommitCountDist().sample());
+            }
+            @Override
+            public boolean traceIsOn() {
+                return PrePostModel.this.currentlySendTraceNotes();
             }
             @Override
             public void sendTraceNote(String description) {
@@ -119,6 +155,9 @@ public class PrePostModel extends Model {
             }
         });
 
+        this.statistics = new Statistics(this, this.plot, this.ticksPerHour);
+        this.taskSwitchOverhead = new TaskSwitchOverhead(
+                        this.parameters.getMaxTaskSwitchOverhead(), this.parameters.getTaskSwitchOverheadAfterOneHourInterruption());
         this.finishedStoryPoints = new Count(this, "finishedStoryPoints", true, false);
         this.storyCycleTime = new Tally(this, "storyCycleTime", true, false);
         this.issueCountFoundByCustomers = new Count(this, "issueCountFoundByCustomers", true, false);
@@ -150,7 +189,89 @@ public class PrePostModel extends Model {
             d.activate();
         }
         //reset after some time, so that starting effects are not measured
-        new ExternalEventReset(this, true).schedule(new TimeInstant(this.hoursToReset, TimeUnit.HOURS));
+        if (this.hoursToReset != NO_AUTOMATIC_RESET) {
+            new ExternalEventReset(this, true).schedule(new TimeInstant(this.hoursToReset, TimeUnit.HOURS));
+        }
+    }
+
+    /**
+     * Resets all statistics, i.e. the DESMO-J reportables as well as the model's own {@link Statistics}.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        this.statistics.reset();
+    }
+
+    /**
+     * Frees the resources bound by the model's developers (depending on the {@link DeveloperEngine}).
+     * Has to be called when the experiment is finished.
+     */
+    public void terminate() {
+        for (final Developer d : this.developers) {
+            d.terminate();
+        }
+    }
+
+    /**
+     * Gives the distribution its own random number stream. Its seed is derived from the model's seed and the
+     * distribution's name (see {@link XoroshiroRandomGenerator#deriveSeed}), so it does not depend on the order
+     * in which the distributions are created. The stream is reseeded in the same way by {@link #reset(long)}.
+     */
+    void addRandomStream(Distribution dist) {
+        dist.changeRandomGenerator(new XoroshiroRandomGenerator());
+        dist.setSeed(XoroshiroRandomGenerator.deriveSeed(this.seed, dist.getName()));
+        this.randomStreams.add(dist);
+    }
+
+    /**
+     * Restarts all random number streams of the model (the distributions as well as the generic random
+     * generators) with the seeds derived from the given one, exactly like they are seeded in {@link #init()}.
+     */
+    private void reseed(long seed) {
+        this.seed = seed;
+        for (final Distribution d : this.randomStreams) {
+            d.setSeed(XoroshiroRandomGenerator.deriveSeed(seed, d.getName()));
+        }
+        this.genericRandom.setSeed(XoroshiroRandomGenerator.deriveSeed(seed, GENERIC_RANDOM_STREAM));
+        this.dependencyGraphGenerator.setSeed(XoroshiroRandomGenerator.deriveSeed(seed, DEPENDENCY_GRAPH_STREAM));
+    }
+
+    /**
+     * Returns the model to the state after initialization, but with the random number streams seeded
+     * from the given seed (exactly like {@link #init()} does for the seed of the parameters) and newly sampled
+     * developer skills. This allows to simulate several independent replications one after the other with the
+     * same model and experiment, instead of creating them anew for every replication. The result of a replication
+     * only depends on the seed, not on the previous replications. Has to be called while the experiment is stopped.
+     *
+     * The simulation time is not reset, so the measured times have to be taken relative to the time of the reset.
+     * Only supported for models without plotting and without automatic statistics reset.
+     */
+    public void reset(long seed) {
+        if (this.plot || this.hoursToReset != NO_AUTOMATIC_RESET) {
+            throw new IllegalStateException("reset with seed is not supported for models with plotting or automatic reset");
+        }
+        //first, as resetting the distributions rewinds them to their old seeds
+        this.reset();
+        this.reseed(seed);
+        //pending events of the abandoned replication check this number and do nothing
+        this.replication++;
+        this.issueCounter = 0;
+        this.storyCounter = 0;
+        this.board.clear();
+        this.sourceRepository.clear();
+        for (final Developer d : this.developers) {
+            d.restart(this.parameters.getReviewSkillDist().sample(),
+                            this.parameters.getGlobalIssueDist().sample(),
+                            this.parameters.getImplementationSkillDist().sample());
+        }
+    }
+
+    /**
+     * Returns the number of the current replication, i.e. the number of calls to {@link #reset(long)}.
+     */
+    int getReplication() {
+        return this.replication;
     }
 
     /**
@@ -174,13 +295,68 @@ public class PrePostModel extends Model {
         return this.dependencyGraphGenerator;
     }
 
+    /**
+     * Sends a trace note for the given model component. The message is created from the template by replacing
+     * each "{}" with the next argument, but only if the note is really traced. Therefore, runs without trace output
+     * don't spend time or memory on building trace messages.
+     */
+    void trace(ModelComponent source, String template, Object arg1) {
+        if (source.currentlySendTraceNotes()) {
+            source.sendTraceNote(formatTraceNote(template, arg1));
+        }
+    }
+
+    /**
+     * Sends a trace note for the given model component, see {@link #trace(ModelComponent, String, Object)}.
+     */
+    void trace(ModelComponent source, String template, Object arg1, Object arg2) {
+        if (source.currentlySendTraceNotes()) {
+            source.sendTraceNote(formatTraceNote(template, arg1, arg2));
+        }
+    }
+
+    /**
+     * Sends a trace note for the given model component, see {@link #trace(ModelComponent, String, Object)}.
+     */
+    void trace(ModelComponent source, String template, Object arg1, Object arg2, Object arg3) {
+        if (source.currentlySendTraceNotes()) {
+            source.sendTraceNote(formatTraceNote(template, arg1, arg2, arg3));
+        }
+    }
+
+    /**
+     * Sends a trace note for the given model component, see {@link #trace(ModelComponent, String, Object)}.
+     */
+    void trace(ModelComponent source, String template, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (source.currentlySendTraceNotes()) {
+            source.sendTraceNote(formatTraceNote(template, arg1, arg2, arg3, arg4));
+        }
+    }
+
+    static String formatTraceNote(String template, Object... args) {
+        final StringBuilder ret = new StringBuilder(template.length() + 16 * args.length);
+        int start = 0;
+        for (final Object arg : args) {
+            final int placeholder = template.indexOf("{}", start);
+            if (placeholder < 0) {
+                break;
+            }
+            ret.append(template, start, placeholder).append(arg);
+            start = placeholder + 2;
+        }
+        ret.append(template, start, template.length());
+        return ret.toString();
+    }
+
     /**
      * Adjusts the statistics when a story has been finished.
      */
     void countFinishedStory(Story story) {
-        final TimeSpan cycleTime = story.getCycleTime(this.presentTime());
-        this.sendTraceNote("Story " + story + " finished after " + cycleTime);
-        this.storyCycleTime.update(cycleTime);
+        final long cycleTicks = story.getCycleTime(this.presentTick());
+        if (this.currentlySendTraceNotes()) {
+            this.sendTraceNote("Story " + story + " finished after " + new TimeSpan(cycleTicks, Experiment.getEpsilon()));
+        }
+        this.storyCycleTime.update(this.ticksToHours(cycleTicks));
         this.finishedStoryPoints.update(story.getStoryPoints());
     }
 
@@ -205,6 +381,28 @@ public class PrePostModel extends Model {
         return this.genericRandom.nextDouble() < probabilityForTrue;
     }
 
+    /**
+     * Returns the number of true values in the given number of independent calls to {@link #getRandomBool(double)},
+     * but needs far fewer random numbers.
+     */
+    int getRandomCount(int numberOfTrials, double probabilityForTrue) {
+        return BinomialSampling.sampleCount(this.genericRandom::nextDouble, numberOfTrials, probabilityForTrue);
+    }
+
+    /**
+     * Returns a new number to identify an issue in traces.
+     */
+    int nextIssueNumber() {
+        return ++this.issueCounter;
+    }
+
+    /**
+     * Returns a new dense id for a story, starting with zero.
+     */
+    int nextStoryId() {
+        return this.storyCounter++;
+    }
+
     /**
      * Returns the sum of story points that have been finished since the last reset.
      */
@@ -248,6 +446,17 @@ public class PrePostModel extends Model {
         return this.storyCycleTime.getObservations();
     }
 
+    /**
+     * Returns the number of tasks that are currently on the board (open story and issue fix tasks as well
+     * as tasks waiting for review or for the fixing of review remarks).
+     */
+    public int getBoardOccupancy() {
+        return this.board.countOpenStoryTasks()
+            + this.board.countOpenIssuefixTasks()
+            + this.board.countTasksReadyForReview()
+            + this.board.countTasksWithReviewRemarks();
+    }
+
     /**
      * Returns the number of issues found by customers since the last reset.
      */
@@ -263,59 +472,58 @@ public class PrePostModel extends Model {
     }
 
     /**
-     * Adjusts the statistics for a certain kind of work that was done since a given time instant until now.
+     * Adjusts the statistics for a certain kind of work that was done since a given time (in epsilon ticks) until now.
      */
-    void countTime(String name, TimeInstant startTime) {
-        Aggregate agg = this.timeCounters.get(name);
-        if (agg == null) {
-            agg = new Aggregate(this, name, true, true);
-            agg.setShowTimeSpansInReport(true);
-            this.timeCounters.put(name, agg);
-        }
-        final TimeSpan diff = TimeOperations.diff(this.presentTime(), startTime);
-        if (!diff.isZero()) {
-            agg.update(diff);
-        }
+    void countTime(TimeMetric metric, long startTick) {
+        this.statistics.countTime(metric, this.presentTick() - startTick);
     }
 
-    private double getTimeCounterAvg(String name) {
-        final Aggregate agg = this.timeCounters.get(name);
-        if (agg == null) {
-            return -1;
-        }
-        if (agg.getObservations() == 0) {
+    /**
+     * Returns the current simulation time in epsilon ticks. The model's internals work with these primitive values
+     * and convert them to DESMO-J's time objects only where DESMO-J needs them.
+     */
+    long presentTick() {
+        return this.presentTime().getTimeInEpsilon();
+    }
+
+    /**
+     * Converts the given number of epsilon ticks to hours.
+     */
+    double ticksToHours(long ticks) {
+        return ticks / this.ticksPerHour;
+    }
+
+    /**
+     * Returns the task switch overhead function for the model's parameters.
+     */
+    TaskSwitchOverhead getTaskSwitchOverhead() {
+        return this.taskSwitchOverhead;
+    }
+
+    private double getTimeCounterAvg(TimeMetric metric) {
+        final long observations = this.statistics.getTimeObservations(metric);
+        if (observations == 0) {
             return -1;
         }
-        return agg.getValue() / agg.getObservations();
+        return this.statistics.getTimeTotal(metric) / observations;
     }
 
-    private double getTimeCounterTotal(String name) {
-        final Aggregate agg = this.timeCounters.get(name);
-        if (agg == null) {
-            return 0;
-        }
-        return agg.getValue();
+    private double getTimeCounterTotal(TimeMetric metric) {
+        return this.statistics.getTimeTotal(metric);
     }
 
     /**
-     * Increments the counter with the given name by one.
+     * Increments the given counter by one.
      */
-    void dynamicCount(String name) {
-        this.dynamicCount(name, 1);
+    void count(CountMetric metric) {
+        this.statistics.count(metric, 1);
     }
 
     /**
-     * Increments the counter with the given name by the given count.
+     * Increments the given counter by the given count.
      */
-    void dynamicCount(String name, int count) {
-        Count cnt = this.dynamicCounters.get(name);
-        if (cnt == null) {
-            cnt = new Count(this, name, true, true);
-            this.dynamicCounters.put(name, cnt);
-        }
-        if (count != 0) {
-            cnt.update(count);
-        }
+    void count(CountMetric metric, int count) {
+        this.statistics.count(metric, count);
     }
 
     public Tally getPlanningGroupSizeTally() {
@@ -326,24 +534,21 @@ public class PrePostModel extends Model {
      * Returns the time (in hours) that has been spent on task switch overhead.
      */
     public double getWastedTimeTaskSwitch() {
-        final Aggregate agg = this.timeCounters.get("timeWasted_taskSwitch");
-        return agg == null ? 0.0 : agg.getValue();
+        return this.statistics.getTimeTotal(TimeMetric.WASTED_TASK_SWITCH);
     }
 
     /**
      * Returns the number of global issues that occurred.
      */
     public long getGlobalIssueCount() {
-        final Count cnt = this.dynamicCounters.get("occurredGlobalIssues");
-        return cnt == null ? 0 : cnt.getValue();
+        return this.statistics.getCount(CountMetric.OCCURRED_GLOBAL_ISSUES);
     }
 
     /**
      * Returns the number of conflicts that occurred.
      */
     public long getConflictCount() {
-        final Aggregate agg = this.timeCounters.get("timeWasted_resolvingConflicts");
-        return agg == null ? 0 : agg.getObservations();
+        return this.statistics.getTimeObservations(TimeMetric.WASTED_RESOLVING_CONFLICTS);
     }
 
     /**
@@ -387,51 +592,51 @@ public class PrePostModel extends Model {
     }
 
     public double getAvgImplementationTime() {
-        return this.getTimeCounterAvg("timeFor_implementing");
+        return this.getTimeCounterAvg(TimeMetric.IMPLEMENTING);
     }
 
     public double getAvgReviewTime() {
-        return this.getTimeCounterAvg("timeFor_reviewing");
+        return this.getTimeCounterAvg(TimeMetric.REVIEWING);
     }
 
     public double getAvgRemarkFixingTime() {
-        return this.getTimeCounterAvg("timeFor_fixingReviewRemarks");
+        return this.getTimeCounterAvg(TimeMetric.FIXING_REVIEW_REMARKS);
     }
 
     public double getAvgIssueFixingTime() {
-        return this.getTimeCounterAvg("timeFor_fixingIssues");
+        return this.getTimeCounterAvg(TimeMetric.FIXING_ISSUES);
     }
 
     public double getAvgIssueAssessmentTime() {
-        return this.getTimeCounterAvg("timeFor_assessingIssues");
+        return this.getTimeCounterAvg(TimeMetric.ASSESSING_ISSUES);
     }
 
     public double getAvgPlanningTime() {
-        return this.getTimeCounterAvg("timeFor_planning");
+        return this.getTimeCounterAvg(TimeMetric.PLANNING);
     }
 
     public double getTotalImplementationTime() {
-        return this.getTimeCounterTotal("timeFor_implementing");
+        return this.getTimeCounterTotal(TimeMetric.IMPLEMENTING);
     }
 
     public double getTotalReviewTime() {
-        return this.getTimeCounterTotal("timeFor_reviewing");
+        return this.getTimeCounterTotal(TimeMetric.REVIEWING);
     }
 
     public double getTotalRemarkFixingTime() {
-        return this.getTimeCounterTotal("timeFor_fixingReviewRemarks");
+        return this.getTimeCounterTotal(TimeMetric.FIXING_REVIEW_REMARKS);
     }
 
     public double getTotalIssueFixingTime() {
-        return this.getTimeCounterTotal("timeFor_fixingIssues");
+        return this.getTimeCounterTotal(TimeMetric.FIXING_ISSUES);
     }
 
     public double getTotalIssueAssessmentTime() {
-        return this.getTimeCounterTotal("timeFor_assessingIssues");
+        return this.getTimeCounterTotal(TimeMetric.ASSESSING_ISSUES);
     }
 
     public double getTotalPlanningTime() {
-        return this.getTimeCounterTotal("timeFor_planning");
+        return this.getTimeCounterTotal(TimeMetric.PLANNING);
     }
 
     void updateIssuesInjectedPerReviewRemark(double ratio) {
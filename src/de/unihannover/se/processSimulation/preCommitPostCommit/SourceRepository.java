@@ -17,10 +17,12 @@
 
 package de.unihannover.se.processSimulation.preCommitPostCommit;
 
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.PriorityQueue;
 
 import desmoj.core.simulator.TimeInstant;
 
@@ -43,19 +45,72 @@ class SourceRepository<U> {
     public static interface SourceRepositoryDependencies {
         public abstract TimeInstant presentTime();
 
-        public abstract boolean sampleConflictDist();
+        /**
+         * Returns the number of commits that can be integrated without conflict before the next
+         * conflicting commit (geometrically distributed, every commit conflicts with the same probability).
+         */
+        public abstract long sampleNonConflictingCommitCount();
+
+        /**
+         * Returns true iff trace notes are currently recorded, so that building them is worthwhile.
+         */
+        public abstract boolean traceIsOn();
 
         public abstract void sendTraceNote(String description);
     }
 
+    /**
+     * An entry in the log of commits. When a task is commited again, its older entry is marked as superseded,
+     * because only the latest commit of each task is relevant.
+     */
+    private static final class CommitLogEntry<U> {
+        private final U task;
+        private final long time;
+        private boolean superseded;
+
+        public CommitLogEntry(U task, long time) {
+            this.task = task;
+            this.time = time;
+        }
+    }
+
+    /**
+     * The time of the last update of a task's working copy.
+     */
+    private static final class WorkStart<U> {
+        private final U task;
+        private final long time;
+
+        public WorkStart(U task, long time) {
+            this.task = task;
+            this.time = time;
+        }
+    }
+
     private final SourceRepositoryDependencies deps;
-    private final Map<U, TimeInstant> startTimes = new LinkedHashMap<>();
-    private final Map<U, TimeInstant> commitTimes = new LinkedHashMap<>();
+    private final Map<U, WorkStart<U>> startTimes = new HashMap<>();
+    //contains the current start times and possibly outdated ones, which are removed lazily
+    private final PriorityQueue<WorkStart<U>> startTimeHeap = new PriorityQueue<>(Comparator.comparingLong(w -> w.time));
+    //the commits ordered by time. Entries before commitLogStart have been removed
+    private final List<CommitLogEntry<U>> commitLog = new ArrayList<>();
+    private int commitLogStart;
+    private final Map<U, CommitLogEntry<U>> lastCommits = new HashMap<>();
 
     public SourceRepository(SourceRepositoryDependencies deps) {
         this.deps = deps;
     }
 
+    /**
+     * Removes all working copies and commits, i.e. returns the repository to its initial state.
+     */
+    public void clear() {
+        this.startTimes.clear();
+        this.startTimeHeap.clear();
+        this.commitLog.clear();
+        this.commitLogStart = 0;
+        this.lastCommits.clear();
+    }
+
     /**
      * Start working on a task: Update the local working copy.
      * @pre There is no open working copy for this task yet.
@@ -74,7 +129,9 @@ class SourceRepository<U> {
     }
 
     private void updateForTask(U task) {
-        this.startTimes.put(task, this.deps.presentTime());
+        final WorkStart<U> start = new WorkStart<>(task, this.deps.presentTime().getTimeInEpsilon());
+        this.startTimes.put(task, start);
+        this.startTimeHeap.add(start);
     }
 
     /**
@@ -83,20 +140,35 @@ class SourceRepository<U> {
      * commit and returns false. Otherwise it commits and returns true.
      */
     public boolean tryCommit(U task) {
-        final TimeInstant startTime = this.startTimes.get(task);
-        for (final Entry<U, TimeInstant> e : this.commitTimes.entrySet()) {
-            //wenn der Commit nach dem Start stattgefunden hat besteht Konfliktgefahr
-            if (TimeInstant.isAfter(e.getValue(), startTime)) {
-                if (this.deps.sampleConflictDist()) {
+        final long startTime = this.startTimes.get(task).time;
+        //wenn der Commit nach dem Start stattgefunden hat besteht Konfliktgefahr
+        int index = this.findFirstCommitAfter(startTime);
+        if (index < this.commitLog.size()) {
+            //instead of checking every commit for a conflict, the number of commits until the first conflict is sampled
+            long nonConflictingCommits = this.deps.sampleNonConflictingCommitCount();
+            for (; index < this.commitLog.size(); index++) {
+                final CommitLogEntry<U> e = this.commitLog.get(index);
+                if (e.superseded) {
+                    continue;
+                }
+                if (nonConflictingCommits == 0) {
                     //Konflikt!
-                    this.deps.sendTraceNote("conflict between " + task + " and " + e.getKey());
+                    if (this.deps.traceIsOn()) {
+                        this.deps.sendTraceNote("conflict between " + task + " and " + e.task);
+                    }
                     return false;
                 }
+                nonConflictingCommits--;
             }
         }
 
         //kein Konflikt => Commit möglich
-        this.commitTimes.put(task, this.deps.presentTime());
+        final CommitLogEntry<U> commit = new CommitLogEntry<>(task, this.deps.presentTime().getTimeInEpsilon());
+        final CommitLogEntry<U> previousCommit = this.lastCommits.put(task, commit);
+        if (previousCommit != null) {
+            previousCommit.superseded = true;
+        }
+        this.commitLog.add(commit);
         this.startTimes.remove(task);
 
         this.removeUnnecessaryTasks();
@@ -104,29 +176,54 @@ class SourceRepository<U> {
         return true;
     }
 
-    private void removeUnnecessaryTasks() {
-        TimeInstant earliestStart = null;
-        for (final Entry<U, TimeInstant> e : this.startTimes.entrySet()) {
-            if (earliestStart == null || TimeInstant.isBefore(e.getValue(), earliestStart)) {
-                earliestStart = e.getValue();
+    /**
+     * Returns the index of the first commit in the log that happened strictly after the given time.
+     */
+    private int findFirstCommitAfter(long time) {
+        int low = this.commitLogStart;
+        int high = this.commitLog.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.commitLog.get(mid).time <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
+        return low;
+    }
+
+    private void removeUnnecessaryTasks() {
+        WorkStart<U> earliestStart = this.startTimeHeap.peek();
+        while (earliestStart != null && this.startTimes.get(earliestStart.task) != earliestStart) {
+            this.startTimeHeap.poll();
+            earliestStart = this.startTimeHeap.peek();
+        }
 
         if (earliestStart == null) {
-            this.commitTimes.clear();
+            this.commitLog.clear();
+            this.commitLogStart = 0;
+            this.lastCommits.clear();
         } else {
-            final Iterator<Entry<U, TimeInstant>> iter = this.commitTimes.entrySet().iterator();
-            while (iter.hasNext()) {
-                final Entry<U, TimeInstant> e = iter.next();
-                if (TimeInstant.isBefore(e.getValue(), earliestStart)) {
-                    iter.remove();
+            while (this.commitLogStart < this.commitLog.size()
+                    && this.commitLog.get(this.commitLogStart).time < earliestStart.time) {
+                final CommitLogEntry<U> e = this.commitLog.get(this.commitLogStart);
+                if (!e.superseded) {
+                    this.lastCommits.remove(e.task);
                 }
+                this.commitLog.set(this.commitLogStart, null);
+                this.commitLogStart++;
+            }
+            //compact the log when most of it has been removed
+            if (this.commitLogStart > this.commitLog.size() / 2) {
+                this.commitLog.subList(0, this.commitLogStart).clear();
+                this.commitLogStart = 0;
             }
         }
     }
 
     int countRemainingSavedCommits() {
-        return this.commitTimes.size();
+        return this.lastCommits.size();
     }
 
 }
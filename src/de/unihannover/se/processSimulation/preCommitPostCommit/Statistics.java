@@ -0,0 +1,132 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import java.util.Arrays;
+
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeSpan;
+import desmoj.core.statistic.Aggregate;
+import desmoj.core.statistic.Count;
+
+/**
+ * Registry for the model's statically declared counters and time counters. The values are kept in primitive
+ * arrays indexed by the metrics' ordinals, so that updating them does not need lookups or allocations.
+ *
+ * When a report shall be created, the values are mirrored into DESMO-J statistic objects, so that they show up in it.
+ * These objects are created on first use of the respective metric, like it was done for the string-keyed counters before.
+ */
+final class Statistics {
+
+    private final Model owner;
+    private final boolean report;
+
+    private final long[] counts = new long[CountMetric.values().length];
+    private final long[] timeObservations = new long[TimeMetric.values().length];
+    private final long[] timeSums = new long[TimeMetric.values().length];
+    private final double ticksPerHour;
+
+    private final Count[] reportCounts;
+    private final Aggregate[] reportAggregates;
+
+    /**
+     * Creates the statistics for the given model. When report is false, no DESMO-J statistic objects are created at all.
+     * The times are counted in epsilon ticks and returned in hours, using the given conversion factor.
+     */
+    Statistics(Model owner, boolean report, double ticksPerHour) {
+        this.owner = owner;
+        this.report = report;
+        this.ticksPerHour = ticksPerHour;
+        this.reportCounts = report ? new Count[this.counts.length] : null;
+        this.reportAggregates = report ? new Aggregate[this.timeSums.length] : null;
+    }
+
+    /**
+     * Increments the given counter by the given count.
+     */
+    void count(CountMetric metric, int count) {
+        final int index = metric.ordinal();
+        this.counts[index] += count;
+        if (this.report) {
+            Count cnt = this.reportCounts[index];
+            if (cnt == null) {
+                cnt = new Count(this.owner, metric.getReportName(), true, true);
+                this.reportCounts[index] = cnt;
+            }
+            if (count != 0) {
+                cnt.update(count);
+            }
+        }
+    }
+
+    /**
+     * Adds an observation with the given time span (in epsilon ticks) to the given time counter.
+     * Zero time spans are not counted as observation.
+     */
+    void countTime(TimeMetric metric, long ticks) {
+        final int index = metric.ordinal();
+        final boolean isZero = ticks == 0;
+        if (!isZero) {
+            this.timeObservations[index]++;
+            this.timeSums[index] += ticks;
+        }
+        if (this.report) {
+            Aggregate agg = this.reportAggregates[index];
+            if (agg == null) {
+                agg = new Aggregate(this.owner, metric.getReportName(), true, true);
+                agg.setShowTimeSpansInReport(true);
+                this.reportAggregates[index] = agg;
+            }
+            if (!isZero) {
+                agg.update(new TimeSpan(ticks, Experiment.getEpsilon()));
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the given counter since the last reset.
+     */
+    long getCount(CountMetric metric) {
+        return this.counts[metric.ordinal()];
+    }
+
+    /**
+     * Returns the number of (non-zero) observations of the given time counter since the last reset.
+     */
+    long getTimeObservations(TimeMetric metric) {
+        return this.timeObservations[metric.ordinal()];
+    }
+
+    /**
+     * Returns the total time (in hours) of the given time counter since the last reset.
+     */
+    double getTimeTotal(TimeMetric metric) {
+        return this.timeSums[metric.ordinal()] / this.ticksPerHour;
+    }
+
+    /**
+     * Resets all values to zero. The DESMO-J objects for the report are reset by the model itself.
+     */
+    void reset() {
+        Arrays.fill(this.counts, 0);
+        Arrays.fill(this.timeObservations, 0);
+        Arrays.fill(this.timeSums, 0);
+    }
+
+}
@@ -19,15 +19,10 @@ package de.unihannover.se.processSimulation.preCommitPostCommit;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
-import co.paralleluniverse.fibers.SuspendExecution;
 import de.unihannover.se.processSimulation.preCommitPostCommit.GraphGenerator.GraphItemFactory;
-import desmoj.core.simulator.TimeInstant;
-import desmoj.core.simulator.TimeOperations;
 import desmoj.core.simulator.TimeSpan;
 
 /**
@@ -42,18 +37,24 @@ class Story extends PrePostEntity implements MemoryItem {
         FINISHED
     }
 
+    private static final long NOT_STARTED = -1;
+
+    private final int id;
     private final TimeSpan planningTime;
-    private TimeInstant startTime;
+    private long startTime = NOT_STARTED;
     private State state;
-    private final List<StoryTask> tasks;
+    private List<StoryTask> tasks;
     private final List<Developer> additionalPlanners = new ArrayList<>();
-    private Set<IssueFixTask> issuesBeforeFinish = new HashSet<>();
+    private List<IssueFixTask> issuesBeforeFinish = new ArrayList<>();
+    private int unfinishedTaskCount;
+    private int unfinishedIssuesBeforeFinishCount;
 
     /**
      * Creates a new story in state "in planning", with a random planning time.
      */
     public Story(PrePostModel owner) {
         super(owner, "story");
+        this.id = owner.nextStoryId();
         this.tasks = new ArrayList<>();
         this.planningTime = owner.getParameters().getPlanningTimeDist().sampleTimeSpan(TimeUnit.HOURS);
         this.state = State.IN_PLANNING;
@@ -61,34 +62,38 @@ class Story extends PrePostEntity implements MemoryItem {
 
     /**
      * Performs planning of this story with the given developer. If there is already someone planning this story,
-     * the developers joins planning, otherwise he becomes responsible for planning. This method holds until
-     * planning is finished.
+     * the developers joins planning, otherwise he becomes responsible for planning. Returns the activity that
+     * is finished when planning is finished.
      */
-    public void plan(Developer developer) throws SuspendExecution {
+    public Activity plan(Developer developer) {
         assert this.state == State.IN_PLANNING;
-        if (this.startTime == null) {
-            this.doMainPlanning(developer);
+        if (this.startTime == NOT_STARTED) {
+            return this.doMainPlanning(developer);
         } else {
-            this.joinPlanning(developer);
+            return this.joinPlanning(developer);
         }
     }
 
-    private void joinPlanning(Developer developer) throws SuspendExecution {
+    private Activity joinPlanning(Developer developer) {
         this.additionalPlanners.add(developer);
-        developer.sendTraceNote("joins planning of " + this);
+        this.getModel().trace(developer, "joins planning of {}", this);
         assert this.state == State.IN_PLANNING;
-        developer.passivate();
+        return new Activity().thenWaitForActivation();
     }
 
     /**
      * Perform planning of the story: Hold for the planning time, create the tasks for the story
      * and change the stories state to "im implementation".
      */
-    private void doMainPlanning(Developer developer) throws SuspendExecution {
-        this.startTime = this.presentTime();
-        developer.sendTraceNote("starts planning of " + this);
-        developer.hold(this.planningTime);
+    private Activity doMainPlanning(Developer developer) {
+        this.startTime = this.getModel().presentTick();
+        this.getModel().trace(developer, "starts planning of {}", this);
+        return new Activity()
+            .thenHold(() -> this.planningTime)
+            .then(this::finishPlanning);
+    }
 
+    private void finishPlanning() {
         this.getModel().getGraphGenerator().generateGraph(new GraphItemFactory<StoryTask>() {
             @Override
             public StoryTask createNode() {
@@ -100,7 +105,7 @@ class Story extends PrePostEntity implements MemoryItem {
             }
         });
 
-        if (this.getModel().getExperiment().traceIsOn()) {
+        if (this.getModel().currentlySendTraceNotes()) {
             final StringBuilder note = new StringBuilder();
             note.append(this).append(" was planned to contain tasks ");
             for (final StoryTask t : this.tasks) {
@@ -124,6 +129,7 @@ class Story extends PrePostEntity implements MemoryItem {
     void addTaskHelper(StoryTask task) {
         assert task.getStory() == this;
         this.tasks.add(task);
+        this.unfinishedTaskCount++;
     }
 
     /**
@@ -134,6 +140,31 @@ class Story extends PrePostEntity implements MemoryItem {
     void registerIssue(IssueFixTask task) {
         if (this.state != State.FINISHED) {
             this.issuesBeforeFinish.add(task);
+            this.unfinishedIssuesBeforeFinishCount++;
+        }
+    }
+
+    /**
+     * Is called when one of this story's tasks has been finished. Finishes the story when this was the last unfinished
+     * task and there are no unfinished known issues.
+     */
+    void handleTaskFinished(StoryTask task) {
+        assert task.getStory() == this && task.isFinished();
+        this.unfinishedTaskCount--;
+        if (this.canBeFinished()) {
+            this.finish();
+        }
+    }
+
+    /**
+     * Is called when a fix for an issue that was registered before the story was finished has been finished.
+     * Finishes the story when this was the last unfinished task or issue.
+     */
+    void handleIssueFixBeforeFinishFinished(IssueFixTask task) {
+        assert this.state != State.FINISHED && task.isFinished();
+        this.unfinishedIssuesBeforeFinishCount--;
+        if (this.canBeFinished()) {
+            this.finish();
         }
     }
 
@@ -142,25 +173,15 @@ class Story extends PrePostEntity implements MemoryItem {
      * @pre this.state != State.FINISHED
      */
     public boolean canBeFinished() {
-        for (final StoryTask t : this.tasks) {
-            if (!t.isFinished()) {
-                return false;
-            }
-        }
         //when a issue occured before the story was declared finished, it blocks finishing
-        for (final IssueFixTask t : this.issuesBeforeFinish) {
-            if (!t.isFinished()) {
-                return false;
-            }
-        }
-        return true;
+        return this.unfinishedTaskCount == 0 && this.unfinishedIssuesBeforeFinishCount == 0;
     }
 
     /**
-     * Returns the time elapsed between start and finish of this story.
+     * Returns the time (in epsilon ticks) elapsed between start and finish of this story.
      */
-    public TimeSpan getCycleTime(TimeInstant finishTime) {
-        return TimeOperations.diff(finishTime, this.startTime);
+    public long getCycleTime(long finishTime) {
+        return finishTime - this.startTime;
     }
 
     /**
@@ -179,8 +200,8 @@ class Story extends PrePostEntity implements MemoryItem {
     }
 
     @Override
-    public String getMemoryKey() {
-        return this.getName();
+    public int getMemoryKey() {
+        return this.id;
     }
 
     /**
@@ -203,7 +224,7 @@ class Story extends PrePostEntity implements MemoryItem {
      * Finishes this story (conceptually includes delivery to the customer).
      * Changes its state, updates the statistics and notifies all contained issues that they can now be found by customers.
      */
-    public void finish() {
+    private void finish() {
         assert this.state == State.IN_IMPLEMENTATION;
 
         this.state = State.FINISHED;
@@ -214,6 +235,8 @@ class Story extends PrePostEntity implements MemoryItem {
         for (final IssueFixTask t : this.issuesBeforeFinish) {
             t.startLurkingIssuesForCustomer();
         }
+        //the tasks are not needed any more, dropping them allows them to be garbage collected early
+        this.tasks = null;
         this.issuesBeforeFinish = null;
     }
 
@@ -32,6 +32,9 @@ class StoryTask extends Task {
     private final Story story;
 
     private final List<StoryTask> prerequisites;
+    private final List<StoryTask> dependentTasks;
+    private int uncommitedPrerequisiteCount;
+    private long boardPosition;
 
     /**
      * Creates a task and connects it to the given story.
@@ -40,6 +43,7 @@ class StoryTask extends Task {
         super(model, "story-task", model.getParameters().getImplementationTimeDist().sampleTimeSpan(TimeUnit.HOURS));
         this.story = story;
         this.prerequisites = new ArrayList<>();
+        this.dependentTasks = new ArrayList<>();
         story.addTaskHelper(this);
     }
 
@@ -49,7 +53,7 @@ class StoryTask extends Task {
     }
 
     @Override
-    public String getMemoryKey() {
+    public int getMemoryKey() {
         return this.story.getMemoryKey();
     }
 
@@ -58,12 +62,33 @@ class StoryTask extends Task {
      * tasks implementation could sensibly start).
      */
     public boolean arePrerequisitesGiven() {
-        for (final Task t : this.prerequisites) {
-            if (!t.isCommited()) {
-                return false;
-            }
+        assert (this.uncommitedPrerequisiteCount == 0) == this.prerequisites.stream().allMatch(Task::isCommited);
+        return this.uncommitedPrerequisiteCount == 0;
+    }
+
+    /**
+     * Is called when one of this task's prerequisites has been commited for the first time.
+     */
+    private void handlePrerequisiteCommited() {
+        assert this.uncommitedPrerequisiteCount > 0;
+        this.uncommitedPrerequisiteCount--;
+        if (this.uncommitedPrerequisiteCount == 0) {
+            this.getBoard().handleStoryTaskPrerequisitesGiven(this);
         }
-        return true;
+    }
+
+    /**
+     * Sets the position of this task in the order the tasks have been put on the board.
+     */
+    void setBoardPosition(long position) {
+        this.boardPosition = position;
+    }
+
+    /**
+     * Returns the position of this task in the order the tasks have been put on the board.
+     */
+    long getBoardPosition() {
+        return this.boardPosition;
     }
 
     @Override
@@ -77,6 +102,10 @@ class StoryTask extends Task {
      */
     void addPrerequisite(StoryTask t) {
         this.prerequisites.add(t);
+        t.dependentTasks.add(this);
+        if (!t.isCommited()) {
+            this.uncommitedPrerequisiteCount++;
+        }
     }
 
     /**
@@ -89,6 +118,12 @@ class StoryTask extends Task {
 
     @Override
     protected void handleCommited() {
+        //this is called before the commit flag is set, so the dependent tasks are only notified for the first commit
+        if (!this.isCommited()) {
+            for (final StoryTask t : this.dependentTasks) {
+                t.handlePrerequisiteCommited();
+            }
+        }
     }
 
     /**
@@ -97,9 +132,7 @@ class StoryTask extends Task {
      */
     @Override
     protected void handleFinishedTask() {
-        if (this.story.canBeFinished()) {
-            this.story.finish();
-        }
+        this.story.handleTaskFinished(this);
     }
 
     @Override
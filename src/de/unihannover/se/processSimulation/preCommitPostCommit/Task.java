@@ -25,9 +25,9 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
-import co.paralleluniverse.fibers.SuspendExecution;
 import de.unihannover.se.processSimulation.common.ReviewMode;
 import de.unihannover.se.processSimulation.preCommitPostCommit.NormalIssue.IssueType;
+import desmoj.core.simulator.Experiment;
 import desmoj.core.simulator.TimeInstant;
 import desmoj.core.simulator.TimeOperations;
 import desmoj.core.simulator.TimeSpan;
@@ -41,27 +41,42 @@ abstract class Task extends PrePostEntity implements MemoryItem {
         /**
          * The task was newly created and nothing has been done yet.
          */
-        OPEN,
+        OPEN(CountMetric.ISSUE_ASSESSMENT_RESULT_OPEN_STORY_IN_WORK, CountMetric.ISSUE_ASSESSMENT_RESULT_OPEN_STORY_FINISHED),
         /**
          * Someone is currently implementation this task (initially, or fixing remarks).
          */
-        IN_IMPLEMENTATION,
+        IN_IMPLEMENTATION(CountMetric.ISSUE_ASSESSMENT_RESULT_IN_IMPLEMENTATION_STORY_IN_WORK, CountMetric.ISSUE_ASSESSMENT_RESULT_IN_IMPLEMENTATION_STORY_FINISHED),
         /**
          * An implementation round has been finished and the task should now be reviewed.
          */
-        READY_FOR_REVIEW,
+        READY_FOR_REVIEW(CountMetric.ISSUE_ASSESSMENT_RESULT_READY_FOR_REVIEW_STORY_IN_WORK, CountMetric.ISSUE_ASSESSMENT_RESULT_READY_FOR_REVIEW_STORY_FINISHED),
         /**
          * Someone is currently reviewing this task.
          */
-        IN_REVIEW,
+        IN_REVIEW(CountMetric.ISSUE_ASSESSMENT_RESULT_IN_REVIEW_STORY_IN_WORK, CountMetric.ISSUE_ASSESSMENT_RESULT_IN_REVIEW_STORY_FINISHED),
         /**
          * There were review remarks found. Another implementation round is needed.
          */
-        REJECTED,
+        REJECTED(CountMetric.ISSUE_ASSESSMENT_RESULT_REJECTED_STORY_IN_WORK, CountMetric.ISSUE_ASSESSMENT_RESULT_REJECTED_STORY_FINISHED),
         /**
          * The task is finished.
          */
-        DONE
+        DONE(CountMetric.ISSUE_ASSESSMENT_RESULT_DONE_STORY_IN_WORK, CountMetric.ISSUE_ASSESSMENT_RESULT_DONE_STORY_FINISHED);
+
+        private final CountMetric issueAssessmentResultStoryInWork;
+        private final CountMetric issueAssessmentResultStoryFinished;
+
+        private State(CountMetric issueAssessmentResultStoryInWork, CountMetric issueAssessmentResultStoryFinished) {
+            this.issueAssessmentResultStoryInWork = issueAssessmentResultStoryInWork;
+            this.issueAssessmentResultStoryFinished = issueAssessmentResultStoryFinished;
+        }
+
+        /**
+         * Returns the counter for issue assessments that happen while the task is in this state.
+         */
+        public CountMetric getIssueAssessmentResultMetric(boolean storyFinished) {
+            return storyFinished ? this.issueAssessmentResultStoryFinished : this.issueAssessmentResultStoryInWork;
+        }
     }
 
     private final TimeSpan implementationTime;
@@ -129,9 +144,9 @@ abstract class Task extends PrePostEntity implements MemoryItem {
 
     /**
      * Let the given developer perform the implementation of this task.
-     * Returns when implementation is done.
+     * Returns the activity that is finished when implementation is done.
      */
-    public void performImplementation(Developer dev) throws SuspendExecution {
+    public Activity performImplementation(Developer dev) {
         assert this.state == State.OPEN;
         assert this.implementor == null;
         assert this.implementationInterruptions.isEmpty();
@@ -141,15 +156,15 @@ abstract class Task extends PrePostEntity implements MemoryItem {
 
         //mit Jens abgestimmt: erst update, dann Task-Switch-Overhead
         this.getSourceRepository().startWork(this);
-        final TimeSpan taskSwitchTime = this.handleTaskSwitchOverhead(dev);
-        final TimeSpan implementationTime = this.getImplementationTime();
-        this.implementor.hold(implementationTime);
-
-        final TimeSpan issueTime = TimeOperations.add(
-                        this.getTimeRelevantForIssueCreation(),
-                        TimeOperations.multiply(taskSwitchTime, this.getModel().getParameters().getTaskSwitchTimeIssueFactor()));
-        this.createIssues(issueTime, this instanceof IssueFixTask, -1);
-        this.endImplementation();
+        final Activity activity = new Activity();
+        final long taskSwitchTime = this.handleTaskSwitchOverhead(dev, activity);
+        activity.thenHold(this::getImplementationTime);
+        activity.then(() -> {
+            final long issueTime = this.getTimeRelevantForIssueCreation().getTimeInEpsilon() + this.getIssueRelevantPart(taskSwitchTime);
+            this.createIssues(issueTime, this instanceof IssueFixTask, -1);
+        });
+        activity.thenPerform(this::endImplementation);
+        return activity;
     }
 
     /**
@@ -163,46 +178,54 @@ abstract class Task extends PrePostEntity implements MemoryItem {
      * Committing (if the review mode demands it)
      * Changing the state and the board according to the review mode
      */
-    private void endImplementation() throws SuspendExecution {
-        this.handleAdditionalWaitsForInterruptions();
+    private Activity endImplementation() {
+        final Activity activity = this.handleAdditionalWaitsForInterruptions();
 
         if (this.getModel().getReviewMode() == ReviewMode.POST_COMMIT || this.getModel().getReviewMode() == ReviewMode.NO_REVIEW) {
-            this.commit(this.implementor);
-        }
-        this.timeActivePost = this.presentTime();
-        assert this.implementationInterruptions.isEmpty();
-        if (this.getModel().getReviewMode() == ReviewMode.NO_REVIEW) {
-            this.setState(State.DONE);
-            this.getModel().updateReviewRoundStatistic(this.reviewRounds);
-            this.getBoard().removeTaskFromInImplementation(this);
-            this.handleFinishedTask();
-        } else {
-            this.setState(State.READY_FOR_REVIEW);
-            this.getBoard().addTaskReadyForReview(this);
+            activity.thenPerform(this::commit);
         }
+        return activity.then(() -> {
+            this.timeActivePost = this.presentTime();
+            assert this.implementationInterruptions.isEmpty();
+            if (this.getModel().getReviewMode() == ReviewMode.NO_REVIEW) {
+                this.setState(State.DONE);
+                this.getModel().updateReviewRoundStatistic(this.reviewRounds);
+                this.getBoard().removeTaskFromInImplementation(this);
+                this.handleFinishedTask();
+            } else {
+                this.setState(State.READY_FOR_REVIEW);
+                this.getBoard().addTaskReadyForReview(this);
+            }
+        });
+    }
+
+    /**
+     * Returns the part of the given task switch overhead (in epsilon ticks) that counts as implementation time
+     * for the number of injected issues.
+     */
+    private long getIssueRelevantPart(long taskSwitchTime) {
+        return Math.round(taskSwitchTime * this.getModel().getParameters().getTaskSwitchTimeIssueFactor());
     }
 
     /**
-     * Inject issues into this task. The number of issues depends on the given time/effort that went into
+     * Inject issues into this task. The number of issues depends on the given time/effort (in epsilon ticks) that went into
      * implementation, if it was issue fixing or new implementation and the developer.
      */
-    private void createIssues(TimeSpan relevantTime, boolean fixing, int reviewRemarkCount) {
+    private void createIssues(long relevantTime, boolean fixing, int reviewRemarkCount) {
         //determine number of issues to create
-        double issuesToCreate = this.implementor.getImplementationSkill() * relevantTime.getTimeAsDouble(TimeUnit.HOURS);
+        double issuesToCreate = this.implementor.getImplementationSkill() * this.getModel().ticksToHours(relevantTime);
         if (fixing) {
             issuesToCreate *= this.getModel().getParameters().getFixingIssueRateFactor();
         }
         if (!fixing) {
+            //every lurking issue in a prerequisite can spawn a follow-up issue
+            int lurkingIssuesInPrerequisites = 0;
             for (final Task t : this.getPrerequisites()) {
-                for (final Issue b : t.lurkingIssues) {
-                    assert !b.isFixed();
-                    final boolean issueSpawnsFollowUpIssue = this.getModel().getRandomBool(
-                                    this.getModel().getParameters().getFollowUpIssueSpawnProbability());
-                    if (issueSpawnsFollowUpIssue) {
-                        issuesToCreate += 1;
-                    }
-                }
+                assert t.lurkingIssues.stream().noneMatch(Issue::isFixed);
+                lurkingIssuesInPrerequisites += t.lurkingIssues.size();
             }
+            issuesToCreate += this.getModel().getRandomCount(
+                            lurkingIssuesInPrerequisites, this.getModel().getParameters().getFollowUpIssueSpawnProbability());
         }
 
         //create issues
@@ -219,13 +242,13 @@ abstract class Task extends PrePostEntity implements MemoryItem {
         }
         if (reviewRemarkCount > 0) {
             assert fixing;
-            this.getModel().dynamicCount("issuesInjectedWhileFixingReviewRemarks", normalIssuesCreated);
+            this.getModel().count(CountMetric.ISSUES_INJECTED_WHILE_FIXING_REVIEW_REMARKS, normalIssuesCreated);
             this.getModel().updateIssuesInjectedPerReviewRemark(((double) normalIssuesCreated) / reviewRemarkCount);
         } else if (fixing) {
-            this.getModel().dynamicCount("issuesInjectedWhileFixingIssues", normalIssuesCreated);
+            this.getModel().count(CountMetric.ISSUES_INJECTED_WHILE_FIXING_ISSUES, normalIssuesCreated);
             this.getModel().updateIssuesInjectedPerIssueTask(normalIssuesCreated);
         } else {
-            this.getModel().dynamicCount("issuesInjectedWhileImplementing", normalIssuesCreated);
+            this.getModel().count(CountMetric.ISSUES_INJECTED_WHILE_IMPLEMENTING, normalIssuesCreated);
             this.getModel().updateIssuesInjectedPerImplementationTask(normalIssuesCreated);
         }
 
@@ -243,13 +266,14 @@ abstract class Task extends PrePostEntity implements MemoryItem {
         this.lurkingIssues.add(new NormalIssue(this, type));
     }
 
-    private void handleAdditionalWaitsForInterruptions() throws SuspendExecution {
-        final TimeInstant startTime = this.presentTime();
-        while (!this.implementationInterruptions.isEmpty()) {
-            final TimeSpan interruption = this.implementationInterruptions.remove(0);
-            this.implementor.hold(interruption);
-        }
-        this.getModel().countTime("timeWasted_interruptions", startTime);
+    private Activity handleAdditionalWaitsForInterruptions() {
+        final long startTime = this.getModel().presentTick();
+        return new Activity()
+            .thenRepeatWhile(() -> !this.implementationInterruptions.isEmpty(), () -> {
+                final TimeSpan interruption = this.implementationInterruptions.remove(0);
+                return new Activity().thenHold(() -> interruption);
+            })
+            .then(() -> this.getModel().countTime(TimeMetric.WASTED_INTERRUPTIONS, startTime));
     }
 
     /**
@@ -260,7 +284,7 @@ abstract class Task extends PrePostEntity implements MemoryItem {
      */
     public void suspendImplementation(TimeSpan timeSpan) {
         assert this.state == State.IN_IMPLEMENTATION;
-        this.getModel().sendTraceNote("suspends implementation of " + this + " for " + timeSpan);
+        this.getModel().trace(this.getModel(), "suspends implementation of {} for {}", this, timeSpan);
         this.implementationInterruptions.add(timeSpan);
     }
 
@@ -274,7 +298,7 @@ abstract class Task extends PrePostEntity implements MemoryItem {
 
         //there is no task switch overhead because the fix belongs to the current task
         final TimeSpan timeSpan = issue.getFixEffort();
-        this.createIssues(timeSpan, true, 1);
+        this.createIssues(timeSpan.getTimeInEpsilon(), true, 1);
         this.suspendImplementation(timeSpan);
         this.lurkingIssues.remove(issue);
         this.issuesFixedInCommit.add(issue);
@@ -282,9 +306,9 @@ abstract class Task extends PrePostEntity implements MemoryItem {
 
     /**
      * Let the given developer perform a review of this task.
-     * Returns when the review is done.
+     * Returns the activity that is finished when the review is done.
      */
-    public void performReview(Developer reviewer) throws SuspendExecution {
+    public Activity performReview(Developer reviewer) {
         assert this.state == State.READY_FOR_REVIEW;
         assert this.implementor != null;
         assert this.implementor != reviewer;
@@ -294,30 +318,33 @@ abstract class Task extends PrePostEntity implements MemoryItem {
         this.setState(State.IN_REVIEW);
         this.reviewRounds++;
         this.issuesFoundByOthersDuringReview = new ArrayList<>();
-        this.handleTaskSwitchOverhead(reviewer);
+        final Activity activity = new Activity();
+        this.handleTaskSwitchOverhead(reviewer, activity);
 
-        reviewer.hold(this.getModel().getParameters().getReviewTimeDist().sampleTimeSpan(TimeUnit.HOURS));
+        activity.thenHold(() -> this.getModel().getParameters().getReviewTimeDist().sampleTimeSpan(TimeUnit.HOURS));
+        return activity.thenPerform(() -> this.endReview(reviewer));
+    }
 
+    private Activity endReview(Developer reviewer) {
         final Set<Issue> foundIssues = new LinkedHashSet<>();
-        for (final Issue b : this.lurkingIssues) {
-            if (reviewer.findsIssue()) {
-                foundIssues.add(b);
-            }
+        for (final int index : reviewer.findIssues(this.lurkingIssues.size())) {
+            foundIssues.add(this.lurkingIssues.get(index));
         }
         foundIssues.addAll(this.issuesFoundByOthersDuringReview);
         this.issuesFoundByOthersDuringReview = null;
         assert this.lurkingIssues.containsAll(foundIssues);
-        reviewer.sendTraceNote("ends review of " + this + ", found " + foundIssues.size() + " of " + this.lurkingIssues.size() + " issues " + foundIssues);
+        this.getModel().trace(reviewer, "ends review of {}, found {} of {} issues {}", this, foundIssues.size(), this.lurkingIssues.size(), foundIssues);
         this.currentReview = new Review(foundIssues);
         if (foundIssues.isEmpty()) {
-            this.endReviewWithoutRemarks(reviewer);
+            return this.endReviewWithoutRemarks();
         } else {
             this.endReviewWithRemarks();
+            return new Activity();
         }
     }
 
     private void setState(State newState) {
-        this.getModel().sendTraceNote("changes state of task " + this + " from " + this.state + " to " + newState);
+        this.getModel().trace(this.getModel(), "changes state of task {} from {} to {}", this, this.state, newState);
         this.state = newState;
     }
 
@@ -327,14 +354,17 @@ abstract class Task extends PrePostEntity implements MemoryItem {
         this.getBoard().addTaskWithReviewRemarks(this);
     }
 
-    private void endReviewWithoutRemarks(Developer reviewer) throws SuspendExecution {
+    private Activity endReviewWithoutRemarks() {
+        final Activity activity = new Activity();
         if (this.getModel().getReviewMode() == ReviewMode.PRE_COMMIT) {
-            this.commit(reviewer);
+            activity.thenPerform(this::commit);
         }
-        this.timeActivePre = this.presentTime();
-        this.setState(State.DONE);
-        this.getModel().updateReviewRoundStatistic(this.reviewRounds);
-        this.handleFinishedTask();
+        return activity.then(() -> {
+            this.timeActivePre = this.presentTime();
+            this.setState(State.DONE);
+            this.getModel().updateReviewRoundStatistic(this.reviewRounds);
+            this.handleFinishedTask();
+        });
     }
 
     /**
@@ -344,9 +374,9 @@ abstract class Task extends PrePostEntity implements MemoryItem {
 
     /**
      * Let the given developer (must be the tasks author) fix the remarks found in the last review.
-     * Returns when fixing is done.
+     * Returns the activity that is finished when fixing is done.
      */
-    public void performFixingOfReviewRemarks(Developer dev) throws SuspendExecution {
+    public Activity performFixingOfReviewRemarks(Developer dev) {
         assert this.state == State.REJECTED;
         assert this.getModel().getReviewMode() != ReviewMode.NO_REVIEW;
         assert this.implementor == dev;
@@ -359,42 +389,49 @@ abstract class Task extends PrePostEntity implements MemoryItem {
             this.getSourceRepository().startWork(this);
         }
 
-        final TimeSpan taskSwitchTime = this.handleTaskSwitchOverhead(dev);
+        final Activity activity = new Activity();
+        final long taskSwitchTime = this.handleTaskSwitchOverhead(dev, activity);
 
         //In reality, it could happen that remarks are not fixed correctly or at all. This is not modeled here,
         //  as these wrong fixes could be regarded as new issues (which are modeled).
 
         assert !this.currentReview.getRemarks().isEmpty();
-        TimeSpan timeForFixing = new TimeSpan(0);
+        long timeForFixing = 0;
         for (final Issue b : this.currentReview.getRemarks()) {
-            timeForFixing = TimeOperations.add(timeForFixing, b.getFixEffort());
+            timeForFixing += b.getFixEffort().getTimeInEpsilon();
         }
-        dev.hold(timeForFixing);
-        this.lurkingIssues.removeAll(this.currentReview.getRemarks());
-        this.issuesFixedInCommit.addAll(this.currentReview.getRemarks());
-
-        final TimeSpan issueTime = TimeOperations.add(
-                        timeForFixing,
-                        TimeOperations.multiply(taskSwitchTime, this.getModel().getParameters().getTaskSwitchTimeIssueFactor()));
-        this.createIssues(issueTime, true, this.currentReview.getRemarks().size());
-        this.endImplementation();
+        final long fixingTime = timeForFixing;
+        activity.thenHold(() -> new TimeSpan(fixingTime, Experiment.getEpsilon()));
+        activity.then(() -> {
+            this.lurkingIssues.removeAll(this.currentReview.getRemarks());
+            this.issuesFixedInCommit.addAll(this.currentReview.getRemarks());
+
+            final long issueTime = fixingTime + this.getIssueRelevantPart(taskSwitchTime);
+            this.createIssues(issueTime, true, this.currentReview.getRemarks().size());
+        });
+        activity.thenPerform(this::endImplementation);
+        return activity;
     }
 
     /**
      * Let the given developer have a look at the given issue and decide what to do with it.
-     * Returns when issue assessment is finished.
+     * Returns the activity that is finished when issue assessment is finished.
      */
-    public void performIssueAssessment(Developer dev, NormalIssue issue) throws SuspendExecution {
-        this.handleTaskSwitchOverhead(dev);
-        dev.hold(this.getModel().getParameters().getIssueAssessmentTimeDist().sampleTimeSpan(TimeUnit.HOURS));
+    public Activity performIssueAssessment(Developer dev, NormalIssue issue) {
+        final Activity activity = new Activity();
+        this.handleTaskSwitchOverhead(dev, activity);
+        activity.thenHold(() -> this.getModel().getParameters().getIssueAssessmentTimeDist().sampleTimeSpan(TimeUnit.HOURS));
+        return activity.then(() -> this.endIssueAssessment(issue));
+    }
 
+    private void endIssueAssessment(NormalIssue issue) {
         if (issue.wasObserved()) {
             //possibly the issue was already found in a review while the developer was busy doing bug assessment
             //  when he finally figures that out, there's nothing more to do
-            this.getModel().dynamicCount("issueAssessmentResultAlreadyObserved");
+            this.getModel().count(CountMetric.ISSUE_ASSESSMENT_RESULT_ALREADY_OBSERVED);
             return;
         }
-        this.getModel().dynamicCount("issueAssessmentResult" + this.state + "withStory" + (this.getStory().isFinished() ? "Finished" : "InWork"));
+        this.getModel().count(this.state.getIssueAssessmentResultMetric(this.getStory().isFinished()));
         issue.setWasObserved();
         switch (this.state) {
         case OPEN:
@@ -425,40 +462,37 @@ abstract class Task extends PrePostEntity implements MemoryItem {
     }
 
     /**
-     * Determine the time it takes the developer to switch to this task's topic and hold for
-     * this time span.
+     * Determine the time (in epsilon ticks) it takes the developer to switch to this task's topic and add holding for
+     * this time span to the given activity.
      */
-    private TimeSpan handleTaskSwitchOverhead(Developer dev) throws SuspendExecution {
-        final TimeSpan taskSwitchOverhead = this.determineTaskSwitchOverhead(dev);
-        assert taskSwitchOverhead.getTimeAsDouble(TimeUnit.HOURS) < 8.0 :
+    private long handleTaskSwitchOverhead(Developer dev, Activity activity) {
+        final long taskSwitchOverhead = this.determineTaskSwitchOverhead(dev);
+        assert this.getModel().ticksToHours(taskSwitchOverhead) < 8.0 :
             "more than a day? something must be wrong " + taskSwitchOverhead;
 
-        if (taskSwitchOverhead.getTimeInEpsilon() != 0) {
-            final TimeInstant startTime = this.presentTime();
-            this.sendTraceNote("has task switch overhead switching to " + this);
-            dev.hold(taskSwitchOverhead);
-            this.getModel().countTime("timeWasted_taskSwitch", startTime);
+        if (taskSwitchOverhead != 0) {
+            final long startTime = this.getModel().presentTick();
+            this.getModel().trace(this, "has task switch overhead switching to {}", this);
+            activity.thenHold(() -> new TimeSpan(taskSwitchOverhead, Experiment.getEpsilon()));
+            activity.then(() -> this.getModel().countTime(TimeMetric.WASTED_TASK_SWITCH, startTime));
         }
         return taskSwitchOverhead;
     }
 
-    private TimeSpan determineTaskSwitchOverhead(Developer dev) {
-        final TimeInstant lastTime = dev.getLastTimeYouHadToDoWith(this);
-        final TimeSpan max = this.getModel().getParameters().getMaxTaskSwitchOverhead();
-        if (lastTime == null) {
-            return max;
+    private long determineTaskSwitchOverhead(Developer dev) {
+        final long lastTime = dev.getLastTimeYouHadToDoWith(this);
+        final TaskSwitchOverhead overhead = this.getModel().getTaskSwitchOverhead();
+        if (lastTime == TopicMemory.NEVER) {
+            return overhead.getMaxOverhead();
         }
+        return overhead.determineOverhead(this.getModel().presentTick() - lastTime);
+    }
 
-        if (max.getTimeInEpsilon() == 0) {
-            return max;
-        }
-
-        final TimeSpan forOneHour = this.getModel().getParameters().getTaskSwitchOverheadAfterOneHourInterruption();
-        final double s = - new TimeSpan(1, TimeUnit.HOURS).getTimeAsDouble() / Math.log(1.0 - forOneHour.getTimeAsDouble() / max.getTimeAsDouble());
-
-        final double timeSinceLastTime = this.presentTime().getTimeAsDouble() - lastTime.getTimeAsDouble();
-        final double overhead = max.getTimeAsDouble() * (1.0 - Math.exp(- timeSinceLastTime / s));
-        return new TimeSpan(overhead);
+    /**
+     * Returns this task's author (null if the implementation has not been started yet).
+     */
+    Developer getImplementor() {
+        return this.implementor;
     }
 
     /**
@@ -479,17 +513,21 @@ abstract class Task extends PrePostEntity implements MemoryItem {
      * Perform a commit. In case of conflict, retry until success.
      * After commit, other developers can find issues injected with this task.
      */
-    private void commit(Developer commiter) throws SuspendExecution {
-
-        while (!this.getSourceRepository().tryCommit(this)) {
-            //conflict found => update, resolve conflict, retry
-            final TimeInstant resolveStartTime = this.presentTime();
-            this.getSourceRepository().restartWork(this);
-            commiter.hold(this.getModel().getParameters().getConflictResolutionTimeDist().sampleTimeSpan(TimeUnit.HOURS));
-            this.getModel().countTime("timeWasted_resolvingConflicts", resolveStartTime);
-            this.handleAdditionalWaitsForInterruptions();
-        }
+    private Activity commit() {
+        return new Activity()
+            .thenRepeatWhile(() -> !this.getSourceRepository().tryCommit(this), () -> {
+                //conflict found => update, resolve conflict, retry
+                final long resolveStartTime = this.getModel().presentTick();
+                this.getSourceRepository().restartWork(this);
+                return new Activity()
+                    .thenHold(() -> this.getModel().getParameters().getConflictResolutionTimeDist().sampleTimeSpan(TimeUnit.HOURS))
+                    .then(() -> this.getModel().countTime(TimeMetric.WASTED_RESOLVING_CONFLICTS, resolveStartTime))
+                    .thenPerform(this::handleAdditionalWaitsForInterruptions);
+            })
+            .then(this::finishCommit);
+    }
 
+    private void finishCommit() {
         this.handleCommited();
         this.commited = true;
         assert containsNoDuplicates(this.issuesFixedInCommit);
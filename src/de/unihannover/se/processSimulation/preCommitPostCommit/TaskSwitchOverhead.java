@@ -0,0 +1,79 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import java.util.concurrent.TimeUnit;
+
+import desmoj.core.simulator.TimeSpan;
+
+/**
+ * The task switch overhead as a function of the time since the developer last had to do with a topic. The overhead
+ * follows Ebbinghaus' forgetting curve: It starts at zero and approaches the maximal overhead exponentially, with
+ * the decay constant chosen so that the given overhead is reached after one hour.
+ * All times are in epsilon ticks. The decay constant is determined once, when the object is created.
+ */
+final class TaskSwitchOverhead {
+
+    private final long maxOverhead;
+    private final double decay;
+
+    /**
+     * Creates the overhead function for the given maximal overhead and the given overhead after one hour.
+     */
+    TaskSwitchOverhead(TimeSpan maxOverhead, TimeSpan overheadAfterOneHour) {
+        this.maxOverhead = maxOverhead.getTimeInEpsilon();
+        final long oneHour = new TimeSpan(1, TimeUnit.HOURS).getTimeInEpsilon();
+        this.decay = - oneHour / Math.log(1.0 - ((double) overheadAfterOneHour.getTimeInEpsilon()) / this.maxOverhead);
+    }
+
+    /**
+     * Returns the overhead (in epsilon) for a developer who never had to do with the topic before.
+     */
+    long getMaxOverhead() {
+        return this.maxOverhead;
+    }
+
+    /**
+     * Returns the overhead (in epsilon) after the given time since the last contact with the topic.
+     */
+    long determineOverhead(long timeSinceLastContact) {
+        if (this.maxOverhead == 0) {
+            return 0;
+        }
+        return Math.round(this.maxOverhead * (1.0 - Math.exp(- timeSinceLastContact / this.decay)));
+    }
+
+    /**
+     * Returns the time since the last contact (in epsilon) after which the overhead is the maximal overhead anyway,
+     * so that the last contact does not need to be remembered any longer. Returns {@link Long#MAX_VALUE} when
+     * there is no such time.
+     */
+    long getSaturationTime() {
+        if (this.maxOverhead == 0) {
+            //the last contact is not needed for the overhead, but the board still uses it to find the best task
+            return Long.MAX_VALUE;
+        }
+        //the remaining difference to the maximum is max * exp(-t / decay), it vanishes when it is below half an epsilon
+        final double saturationTime = this.decay * Math.log(2.0 * this.maxOverhead);
+        if (!(saturationTime >= 0.0) || Double.isInfinite(saturationTime)) {
+            return Long.MAX_VALUE;
+        }
+        return (long) Math.ceil(saturationTime) + 1;
+    }
+
+}
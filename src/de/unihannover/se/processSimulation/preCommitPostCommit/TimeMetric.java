@@ -0,0 +1,47 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+/**
+ * The kinds of work whose duration is accumulated in the model's {@link Statistics}.
+ */
+enum TimeMetric {
+    IMPLEMENTING("timeFor_implementing"),
+    REVIEWING("timeFor_reviewing"),
+    FIXING_REVIEW_REMARKS("timeFor_fixingReviewRemarks"),
+    FIXING_ISSUES("timeFor_fixingIssues"),
+    ASSESSING_ISSUES("timeFor_assessingIssues"),
+    PLANNING("timeFor_planning"),
+    WASTED_INTERRUPTIONS("timeWasted_interruptions"),
+    WASTED_TASK_SWITCH("timeWasted_taskSwitch"),
+    WASTED_RESOLVING_CONFLICTS("timeWasted_resolvingConflicts");
+
+    private final String reportName;
+
+    private TimeMetric(String reportName) {
+        this.reportName = reportName;
+    }
+
+    /**
+     * Returns the name that is used for this metric in the DESMO-J report.
+     */
+    public String getReportName() {
+        return this.reportName;
+    }
+
+}
@@ -0,0 +1,154 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import java.util.Arrays;
+
+/**
+ * A developer's memory of the last time he had to do with a topic. Maps the int keys of {@link MemoryItem}s to times
+ * (in epsilon). Uses open addressing with linear probing on primitive arrays, so that neither lookups nor updates
+ * need boxing.
+ *
+ * Entries that are older than a given horizon are forgotten: They are treated as missing by {@link #get(int, long)}
+ * and are removed when the table would have to grow, so that the memory stays bounded in long simulation runs.
+ * As an entry is forgotten exactly when it is older than the horizon, the results do not depend on the layout of the table.
+ */
+final class TopicMemory {
+
+    /**
+     * Returned by {@link #get(int, long)} when there is no entry for a key.
+     */
+    public static final long NEVER = Long.MIN_VALUE;
+
+    private static final int FREE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long horizon;
+    private int[] keys;
+    private long[] times;
+    private int size;
+
+    /**
+     * Creates an empty memory. Entries that are older than the given horizon (in epsilon) are forgotten.
+     * Use {@link Long#MAX_VALUE} to never forget anything.
+     */
+    TopicMemory(long horizon) {
+        this.horizon = horizon;
+        this.keys = new int[INITIAL_CAPACITY];
+        this.times = new long[INITIAL_CAPACITY];
+        Arrays.fill(this.keys, FREE);
+    }
+
+    /**
+     * Returns the time saved for the given key, or {@link #NEVER} if there is none or it is older than the horizon
+     * at the given current time (in epsilon).
+     */
+    long get(int key, long now) {
+        final int mask = this.keys.length - 1;
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            final int k = this.keys[i];
+            if (k == key) {
+                return this.isForgotten(this.times[i], now) ? NEVER : this.times[i];
+            }
+            if (k == FREE) {
+                return NEVER;
+            }
+        }
+    }
+
+    /**
+     * Saves the given time (in epsilon) for the given non-negative key. The time must not be before the
+     * times of earlier calls.
+     */
+    void put(int key, long time) {
+        assert key >= 0;
+        final int mask = this.keys.length - 1;
+        int i = mix(key) & mask;
+        while (this.keys[i] != FREE) {
+            if (this.keys[i] == key) {
+                this.times[i] = time;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        this.keys[i] = key;
+        this.times[i] = time;
+        this.size++;
+        if (4 * this.size > 3 * this.keys.length) {
+            this.rehash(time);
+        }
+    }
+
+    /**
+     * Removes all entries and shrinks the table to its initial capacity, i.e. returns to the state after creation.
+     */
+    void clear() {
+        this.keys = new int[INITIAL_CAPACITY];
+        this.times = new long[INITIAL_CAPACITY];
+        Arrays.fill(this.keys, FREE);
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of saved entries.
+     */
+    int size() {
+        return this.size;
+    }
+
+    private void rehash(long now) {
+        final int[] oldKeys = this.keys;
+        final long[] oldTimes = this.times;
+        int survivors = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE && !this.isForgotten(oldTimes[i], now)) {
+                survivors++;
+            }
+        }
+        //grow only when forgetting old entries does not free enough space
+        final int capacity = 2 * survivors > oldKeys.length ? 2 * oldKeys.length : oldKeys.length;
+        this.keys = new int[capacity];
+        this.times = new long[capacity];
+        Arrays.fill(this.keys, FREE);
+        this.size = 0;
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE && !this.isForgotten(oldTimes[i], now)) {
+                int j = mix(oldKeys[i]) & mask;
+                while (this.keys[j] != FREE) {
+                    j = (j + 1) & mask;
+                }
+                this.keys[j] = oldKeys[i];
+                this.times[j] = oldTimes[i];
+                this.size++;
+            }
+        }
+    }
+
+    private boolean isForgotten(long time, long now) {
+        //the times are not negative, so this does not overflow even for an infinite horizon
+        return time < now - this.horizon;
+    }
+
+    private static int mix(int key) {
+        //the keys are dense, so spreading them is mainly needed to avoid long probe sequences after forgetting
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
@@ -0,0 +1,89 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class XoroshiroRandomGeneratorTest {
+
+    @Test
+    public void testSameSeedGivesSameSequence() {
+        final XoroshiroRandomGenerator r1 = new XoroshiroRandomGenerator(42);
+        final XoroshiroRandomGenerator r2 = new XoroshiroRandomGenerator(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(r1.nextLong(), r2.nextLong());
+        }
+        r1.setSeed(42);
+        assertEquals(new XoroshiroRandomGenerator(42).nextLong(), r1.nextLong());
+    }
+
+    @Test
+    public void testDerivedSeedsDiffer() {
+        assertEquals(XoroshiroRandomGenerator.deriveSeed(1, "a"), XoroshiroRandomGenerator.deriveSeed(1, "a"));
+        assertNotEquals(XoroshiroRandomGenerator.deriveSeed(1, "a"), XoroshiroRandomGenerator.deriveSeed(2, "a"));
+        assertNotEquals(XoroshiroRandomGenerator.deriveSeed(1, "a"), XoroshiroRandomGenerator.deriveSeed(1, "b"));
+        assertNotEquals(XoroshiroRandomGenerator.deriveSeed(1, "ab"), XoroshiroRandomGenerator.deriveSeed(1, "ba"));
+        assertNotEquals(XoroshiroRandomGenerator.deriveSeed(1, ""), XoroshiroRandomGenerator.deriveSeed(1, "\0"));
+    }
+
+    @Test
+    public void testStreamsOfNeighboringSeedsAreUncorrelated() {
+        final XoroshiroRandomGenerator r1 = XoroshiroRandomGenerator.forStream(764, "implementationTimeDist");
+        final XoroshiroRandomGenerator r2 = XoroshiroRandomGenerator.forStream(765, "implementationTimeDist");
+        final int n = 100000;
+        double sumProducts = 0.0;
+        for (int i = 0; i < n; i++) {
+            sumProducts += (r1.nextDouble() - 0.5) * (r2.nextDouble() - 0.5);
+        }
+        //correlation coefficient, the variance of a uniform distribution is 1/12
+        assertEquals(0.0, sumProducts / n * 12.0, 0.02);
+    }
+
+    @Test
+    public void testNextDoubleIsUniform() {
+        final XoroshiroRandomGenerator r = new XoroshiroRandomGenerator(123);
+        final int[] buckets = new int[10];
+        final int n = 100000;
+        for (int i = 0; i < n; i++) {
+            final double d = r.nextDouble();
+            assertTrue(d >= 0.0 && d < 1.0);
+            buckets[(int) (d * 10)]++;
+        }
+        for (final int count : buckets) {
+            assertEquals(n / 10, count, n / 100);
+        }
+    }
+
+    @Test
+    public void testNextIntIsInBoundsAndUniform() {
+        final XoroshiroRandomGenerator r = new XoroshiroRandomGenerator(123);
+        final int[] counts = new int[7];
+        final int n = 70000;
+        for (int i = 0; i < n; i++) {
+            counts[r.nextInt(7)]++;
+        }
+        for (final int count : counts) {
+            assertEquals(n / 7, count, n / 70);
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.unihannover.se.processSimulation.common.ParametersFactory;
+import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.dataGenerator.BulkParameterFactory.ParameterType;
+import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.ExperimentRunner;
+
+public class CachingExperimentRunnerTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private static ExperimentRunner countingRunner(AtomicInteger callCount) {
+        return countingRunner(callCount, "setup");
+    }
+
+    private static ExperimentRunner countingRunner(AtomicInteger callCount, String setup) {
+        return new ExperimentRunner() {
+            @Override
+            public ExperimentResult runExperiment(
+                    ParametersFactory p, ReviewMode mode, File resultDir, String runId, int daysForStartup, int daysForMeasurement) {
+                return createResult(callCount.incrementAndGet());
+            }
+
+            @Override
+            public String getSetupDescription() {
+                return setup;
+            }
+        };
+    }
+
+    private static ExperimentResult createResult(int i) {
+        return new ExperimentResult(
+                        i, 1.5 * i, 0.25, 2, 3, 4, 5, 6, 700, 0.1, 7, 8, 1.0 / 3.0, 0.2, 0.3, 0.4, 0.5, 0.6,
+                        0.7, 0.8, 0.9, 1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7, 1.8, 1.9, 42, false);
+    }
+
+    @Test
+    public void testRepeatedExperimentIsTakenFromCache() throws Exception {
+        final AtomicInteger callCount = new AtomicInteger();
+        final File index = new File(this.tempFolder.getRoot(), "cache.idx");
+        final CachingExperimentRunner runner = new CachingExperimentRunner(countingRunner(callCount), index, 10);
+        final BulkParameterFactory f = BulkParameterFactory.forCommercial();
+
+        final ExperimentResult r1 = runner.runExperiment(f, ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        assertEquals(1, callCount.get());
+        assertEquals(r1, runner.runExperiment(f, ReviewMode.PRE_COMMIT, null, "1", 10, 20));
+        assertEquals(1, callCount.get());
+
+        runner.runExperiment(f, ReviewMode.POST_COMMIT, null, "0", 10, 20);
+        runner.runExperiment(f, ReviewMode.PRE_COMMIT, null, "0", 11, 20);
+        runner.runExperiment(f.copyWithChangedSeed(), ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        runner.runExperiment(f.copyWithChangedParam(ParameterType.NUMBER_OF_DEVELOPERS, 5), ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        assertEquals(5, callCount.get());
+    }
+
+    @Test
+    public void testCacheSurvivesRestart() throws Exception {
+        final AtomicInteger callCount = new AtomicInteger();
+        final File index = new File(this.tempFolder.getRoot(), "cache.idx");
+        final BulkParameterFactory f = BulkParameterFactory.forCommercial();
+        final ExperimentResult r1 = new CachingExperimentRunner(countingRunner(callCount), index, 10)
+                        .runExperiment(f, ReviewMode.NO_REVIEW, null, "0", 10, 20);
+
+        final CachingExperimentRunner restarted = new CachingExperimentRunner(countingRunner(callCount), index, 10);
+        final ExperimentResult r2 = restarted.runExperiment(f, ReviewMode.NO_REVIEW, null, "0", 10, 20);
+        assertEquals(1, callCount.get());
+        assertEquals(r1.getFinishedStoryPoints(), r2.getFinishedStoryPoints());
+        assertEquals(r1.getStoryCycleTimeMeanWithDefault(), r2.getStoryCycleTimeMeanWithDefault(), 0.0);
+        assertEquals(r1.getAvgImplementationTime(), r2.getAvgImplementationTime(), 0.0);
+        assertEquals(r1.getWarmUpHours(), r2.getWarmUpHours());
+        assertEquals(r1.getExperimentDuration(), r2.getExperimentDuration());
+    }
+
+    @Test
+    public void testResultsFromAnotherSetupAreNotTaken() throws Exception {
+        final AtomicInteger callCount = new AtomicInteger();
+        final File index = new File(this.tempFolder.getRoot(), "cache.idx");
+        final BulkParameterFactory f = BulkParameterFactory.forCommercial();
+        new CachingExperimentRunner(countingRunner(callCount, "setupA"), index, 10)
+                        .runExperiment(f, ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+
+        final CachingExperimentRunner otherSetup = new CachingExperimentRunner(countingRunner(callCount, "setupB"), index, 10);
+        otherSetup.runExperiment(f, ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        assertEquals(2, callCount.get());
+        final CachingExperimentRunner sameSetup = new CachingExperimentRunner(countingRunner(callCount, "setupA"), index, 10);
+        sameSetup.runExperiment(f, ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        assertEquals(2, callCount.get());
+    }
+
+    @Test
+    public void testRunnerWithoutSetupDescriptionIsNotCached() throws Exception {
+        final AtomicInteger callCount = new AtomicInteger();
+        final File index = new File(this.tempFolder.getRoot(), "cache.idx");
+        final BulkParameterFactory f = BulkParameterFactory.forCommercial();
+        final CachingExperimentRunner runner = new CachingExperimentRunner(
+                        (p, mode, resultDir, runId, daysForStartup, daysForMeasurement) -> createResult(callCount.incrementAndGet()), index, 10);
+        runner.runExperiment(f, ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        runner.runExperiment(f, ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        assertEquals(2, callCount.get());
+    }
+
+    @Test
+    public void testIndexFromAnotherVersionIsDiscarded() throws Exception {
+        final AtomicInteger callCount = new AtomicInteger();
+        final File index = new File(this.tempFolder.getRoot(), "cache.idx");
+        final BulkParameterFactory f = BulkParameterFactory.forCommercial();
+        new CachingExperimentRunner(countingRunner(callCount), index, 10)
+                        .runExperiment(f, ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        final List<String> lines = Files.readAllLines(index.toPath(), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        lines.set(0, "#version;" + (CachingExperimentRunner.VERSION - 1));
+        Files.write(index.toPath(), lines, StandardCharsets.UTF_8);
+
+        final CachingExperimentRunner restarted = new CachingExperimentRunner(countingRunner(callCount), index, 10);
+        restarted.runExperiment(f, ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        assertEquals(2, callCount.get());
+        assertEquals(2, Files.readAllLines(index.toPath(), StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws Exception {
+        final AtomicInteger callCount = new AtomicInteger();
+        final File index = new File(this.tempFolder.getRoot(), "cache.idx");
+        final CachingExperimentRunner runner = new CachingExperimentRunner(countingRunner(callCount), index, 2);
+        final BulkParameterFactory f0 = BulkParameterFactory.forCommercial();
+        final BulkParameterFactory f1 = f0.copyWithChangedSeed();
+        final BulkParameterFactory f2 = f1.copyWithChangedSeed();
+
+        runner.runExperiment(f0, ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        runner.runExperiment(f1, ReviewMode.PRE_COMMIT, null, "1", 10, 20);
+        runner.runExperiment(f0, ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        runner.runExperiment(f2, ReviewMode.PRE_COMMIT, null, "2", 10, 20);
+        assertEquals(3, callCount.get());
+        runner.runExperiment(f0, ReviewMode.PRE_COMMIT, null, "0", 10, 20);
+        assertEquals(3, callCount.get());
+        runner.runExperiment(f1, ReviewMode.PRE_COMMIT, null, "1", 10, 20);
+        assertEquals(4, callCount.get());
+    }
+
+}
@@ -0,0 +1,278 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import desmoj.core.simulator.EventList;
+import desmoj.core.simulator.EventNote;
+import desmoj.core.simulator.EventTreeList;
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeInstant;
+
+/**
+ * Checks that the {@link CalendarEventList} keeps the notes in exactly the same order as DESMO-J's default
+ * {@link EventTreeList}, because otherwise the simulation results would depend on the event list.
+ */
+public class CalendarEventListTest {
+
+    /**
+     * Performs every operation on both lists and checks that they contain the same notes in the same order.
+     */
+    private static final class ListPair {
+        private final Model model = TestModels.dummyModel();
+        private final EventList expected = new EventTreeList();
+        private final CalendarEventList actual = new CalendarEventList();
+        private final List<EventNote> contained = new ArrayList<>();
+
+        public EventNote insert(long minutes, int priority) {
+            final EventNote n = this.note(new TimeInstant(minutes, TimeUnit.MINUTES), priority);
+            this.expected.insert(n);
+            this.actual.insert(n);
+            this.contained.add(n);
+            this.checkSameOrder();
+            return n;
+        }
+
+        public EventNote insertBefore(EventNote where, int priority) {
+            final EventNote n = this.note(where.getTime(), priority);
+            this.expected.insertBefore(where, n);
+            this.actual.insertBefore(where, n);
+            this.contained.add(n);
+            this.checkSameOrder();
+            return n;
+        }
+
+        public EventNote insertAfter(EventNote where, int priority) {
+            final EventNote n = this.note(where.getTime(), priority);
+            this.expected.insertAfter(where, n);
+            this.actual.insertAfter(where, n);
+            this.contained.add(n);
+            this.checkSameOrder();
+            return n;
+        }
+
+        public EventNote insertAsFirst() {
+            final EventNote n = this.note(this.expected.firstNote().getTime(), 0);
+            this.expected.insertAsFirst(n);
+            this.actual.insertAsFirst(n);
+            this.contained.add(n);
+            this.checkSameOrder();
+            return n;
+        }
+
+        public EventNote insertAsLast() {
+            final EventNote n = this.note(this.expected.lastNote().getTime(), 0);
+            this.expected.insertAsLast(n);
+            this.actual.insertAsLast(n);
+            this.contained.add(n);
+            this.checkSameOrder();
+            return n;
+        }
+
+        public void remove(EventNote n) {
+            assertEquals(this.expected.remove(n), this.actual.remove(n));
+            this.contained.remove(n);
+            this.checkSameOrder();
+        }
+
+        public void removeFirst() {
+            final EventNote n = this.expected.removeFirst();
+            assertSame(n, this.actual.removeFirst());
+            this.contained.remove(n);
+            this.checkSameOrder();
+        }
+
+        public EventNote randomContainedNote(Random r) {
+            return this.contained.get(r.nextInt(this.contained.size()));
+        }
+
+        public int size() {
+            return this.contained.size();
+        }
+
+        private EventNote note(TimeInstant time, int priority) {
+            return new EventNote(this.model, null, null, null, null, time, priority, false);
+        }
+
+        private void checkSameOrder() {
+            assertEquals(this.expected.isEmpty(), this.actual.isEmpty());
+            assertSame(this.expected.firstNote(), this.actual.firstNote());
+            assertSame(this.expected.lastNote(), this.actual.lastNote());
+            int count = 0;
+            EventNote prev = null;
+            for (EventNote n = this.expected.firstNote(); n != null; n = this.expected.nextNote(n)) {
+                assertSame(this.expected.prevNote(n), this.actual.prevNote(n));
+                assertSame(this.expected.nextNote(n), this.actual.nextNote(n));
+                assertSame(prev, this.actual.prevNote(n));
+                prev = n;
+                count++;
+            }
+            assertEquals(this.contained.size(), count);
+        }
+
+        public List<EventNote> drain() {
+            final List<EventNote> ret = new ArrayList<>();
+            while (!this.expected.isEmpty()) {
+                ret.add(this.expected.firstNote());
+                this.removeFirst();
+            }
+            assertTrue(this.actual.isEmpty());
+            assertEquals(null, this.actual.firstNote());
+            return ret;
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        final CalendarEventList list = new CalendarEventList();
+        assertTrue(list.isEmpty());
+        assertEquals(null, list.firstNote());
+        assertEquals(null, list.lastNote());
+        assertEquals(null, list.removeFirst());
+    }
+
+    @Test
+    public void testEqualTimesInInsertionOrder() {
+        final ListPair p = new ListPair();
+        final EventNote n1 = p.insert(5, 0);
+        final EventNote n2 = p.insert(5, 0);
+        final EventNote n3 = p.insert(3, 0);
+        final EventNote n4 = p.insert(5, 0);
+        final List<EventNote> order = p.drain();
+        assertSame(n3, order.get(0));
+        assertSame(n1, order.get(1));
+        assertSame(n2, order.get(2));
+        assertSame(n4, order.get(3));
+    }
+
+    @Test
+    public void testHigherPriorityFirstForEqualTimes() {
+        final ListPair p = new ListPair();
+        final EventNote low = p.insert(5, 0);
+        final EventNote high = p.insert(5, 2);
+        final EventNote mid1 = p.insert(5, 1);
+        final EventNote mid2 = p.insert(5, 1);
+        final EventNote earlier = p.insert(4, -1);
+        final List<EventNote> order = p.drain();
+        assertSame(earlier, order.get(0));
+        assertSame(high, order.get(1));
+        assertSame(mid1, order.get(2));
+        assertSame(mid2, order.get(3));
+        assertSame(low, order.get(4));
+    }
+
+    @Test
+    public void testInsertBeforeAndAfter() {
+        final ListPair p = new ListPair();
+        final EventNote a = p.insert(5, 0);
+        final EventNote b = p.insert(5, 0);
+        p.insert(7, 0);
+        final EventNote beforeB = p.insertBefore(b, 0);
+        final EventNote afterA = p.insertAfter(a, 0);
+        final EventNote beforeA = p.insertBefore(a, 0);
+        final EventNote afterB = p.insertAfter(b, 0);
+        final List<EventNote> order = p.drain();
+        assertSame(beforeA, order.get(0));
+        assertSame(a, order.get(1));
+        assertSame(afterA, order.get(2));
+        assertSame(beforeB, order.get(3));
+        assertSame(b, order.get(4));
+        assertSame(afterB, order.get(5));
+    }
+
+    @Test
+    public void testInsertAsFirstAndLast() {
+        final ListPair p = new ListPair();
+        p.insert(5, 2);
+        p.insert(5, 0);
+        p.insert(9, 0);
+        final EventNote first = p.insertAsFirst();
+        final EventNote last = p.insertAsLast();
+        final List<EventNote> order = p.drain();
+        assertSame(first, order.get(0));
+        assertSame(last, order.get(order.size() - 1));
+    }
+
+    @Test
+    public void testRemove() {
+        final ListPair p = new ListPair();
+        final EventNote a = p.insert(5, 0);
+        final EventNote b = p.insert(5, 0);
+        final EventNote c = p.insert(8, 0);
+        p.remove(b);
+        p.remove(b);
+        p.remove(c);
+        p.remove(a);
+        p.insert(10, 0);
+        assertEquals(1, p.drain().size());
+    }
+
+    @Test
+    public void testManyDistinctTimesWithGrowingAndShrinkingCalendar() {
+        final ListPair p = new ListPair();
+        final Random r = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            p.insert(r.nextInt(100000), 0);
+        }
+        while (p.size() > 3) {
+            p.removeFirst();
+        }
+        for (int i = 0; i < 300; i++) {
+            p.insert(r.nextInt(50), r.nextInt(3));
+        }
+        assertEquals(303, p.drain().size());
+    }
+
+    @Test
+    public void testRandomOperationsLikeSimulation() {
+        for (int seed = 0; seed < 20; seed++) {
+            final ListPair p = new ListPair();
+            final Random r = new Random(seed);
+            long nowMinutes = 0;
+            for (int step = 0; step < 1000; step++) {
+                final int op = r.nextInt(10);
+                if (p.size() == 0 || op < 4) {
+                    //events are scheduled from the present time on, often for the same time
+                    final long delay = r.nextBoolean() ? r.nextInt(3) : r.nextInt(5000);
+                    p.insert(nowMinutes + delay, r.nextInt(3));
+                } else if (op < 7) {
+                    nowMinutes = p.expected.firstNote().getTime().getTimeRounded(TimeUnit.MINUTES);
+                    p.removeFirst();
+                } else if (op == 7) {
+                    p.remove(p.randomContainedNote(r));
+                } else if (op == 8) {
+                    p.insertAfter(p.randomContainedNote(r), r.nextInt(3));
+                } else {
+                    p.insertBefore(p.randomContainedNote(r), r.nextInt(3));
+                }
+            }
+            p.drain();
+        }
+    }
+
+}
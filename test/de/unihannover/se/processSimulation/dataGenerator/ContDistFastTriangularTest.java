@@ -0,0 +1,95 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ContDistFastTriangularTest {
+
+    private static ContDistFastTriangular create(double lower, double upper, double mode) {
+        final ContDistFastTriangular dist = new ContDistFastTriangular(TestModels.dummyModel(), "test", lower, upper, mode, false, false);
+        dist.setSeed(123);
+        return dist;
+    }
+
+    @Test
+    public void testInverse() {
+        final ContDistFastTriangular dist = create(1.0, 3.0, 2.0);
+        assertEquals(1.0, dist.getInverseOfCumulativeProbabilityFunction(0.0), 0.000001);
+        assertEquals(2.0, dist.getInverseOfCumulativeProbabilityFunction(0.5), 0.000001);
+        assertEquals(3.0, dist.getInverseOfCumulativeProbabilityFunction(1.0), 0.000001);
+        assertEquals(1.0 + Math.sqrt(0.5), dist.getInverseOfCumulativeProbabilityFunction(0.25), 0.000001);
+    }
+
+    @Test
+    public void testMeanAndBounds() {
+        checkMeanAndBounds(1.0, 3.0, 2.0);
+        checkMeanAndBounds(0.0, 1.0, 0.0);
+        checkMeanAndBounds(0.0, 1.0, 1.0);
+        checkMeanAndBounds(0.2, 0.3, 0.29);
+    }
+
+    private static void checkMeanAndBounds(double lower, double upper, double mode) {
+        final ContDistFastTriangular dist = create(lower, upper, mode);
+        double sum = 0.0;
+        for (int i = 0; i < 20000; i++) {
+            final double sample = dist.sample();
+            assertTrue(sample >= lower && sample <= upper);
+            sum += sample;
+        }
+        assertEquals((lower + upper + mode) / 3.0, sum / 20000.0, (upper - lower) / 100.0);
+    }
+
+    @Test
+    public void testSetSeed() {
+        final ContDistFastTriangular dist = create(1.0, 3.0, 2.0);
+        dist.setSeed(500);
+        final List<Double> samples1 = sampleNValues(dist, 100);
+        final List<Double> samples2 = sampleNValues(dist, 100);
+        dist.setSeed(500);
+        final List<Double> samples3 = sampleNValues(dist, 100);
+
+        assertEquals(samples1, samples3);
+        assertNotEquals(samples1, samples2);
+    }
+
+    @Test
+    public void testResetDiscardsBufferedSamples() {
+        final ContDistFastTriangular dist = create(1.0, 3.0, 2.0);
+        final List<Double> samples1 = sampleNValues(dist, 10);
+        dist.reset();
+        final List<Double> samples2 = sampleNValues(dist, 10);
+        assertEquals(samples1, samples2);
+    }
+
+    private static List<Double> sampleNValues(ContDistFastTriangular dist, int n) {
+        final List<Double> ret = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            ret.add(dist.sample());
+        }
+        return ret;
+    }
+
+}
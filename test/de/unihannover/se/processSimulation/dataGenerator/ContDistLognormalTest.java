@@ -13,55 +13,34 @@ import java.util.Map.Entry;
 import org.junit.Test;
 
 import desmoj.core.dist.UniformRandomGenerator;
-import desmoj.core.simulator.Experiment;
-import desmoj.core.simulator.Model;
 
 public class ContDistLognormalTest {
 
-    private static Model dummyModel() {
-        final Model ret = new Model(null, "name", false, false) {
-            @Override
-            public String description() {
-                return "desc";
-            }
-            @Override
-            public void doInitialSchedules() {
-            }
-            @Override
-            public void init() {
-            }
-        };
-        final Experiment exp = new Experiment("Experiment",
-                        ".\\dummy", null, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
-        ret.connectToExperiment(exp);
-        return ret;
-    }
-
     @Test
     public void testMean() {
-        final double mean1 = mean(ContDistLognormal.createWithMeanAndMode(dummyModel(), "test", false, false, 10, 5));
+        final double mean1 = mean(ContDistLognormal.createWithMeanAndMode(TestModels.dummyModel(), "test", false, false, 10, 5));
         assertEquals(mean1, 10.0, 0.1);
-        final double mean2 = mean(ContDistLognormal.createWithMeanAndMode(dummyModel(), "test", false, false, 9, 5));
+        final double mean2 = mean(ContDistLognormal.createWithMeanAndMode(TestModels.dummyModel(), "test", false, false, 9, 5));
         assertEquals(mean2, 9.0, 0.1);
-        final double mean3 = mean(ContDistLognormal.createWithMeanAndMode(dummyModel(), "test", false, false, 20, 2));
+        final double mean3 = mean(ContDistLognormal.createWithMeanAndMode(TestModels.dummyModel(), "test", false, false, 20, 2));
         assertEquals(mean3, 20.0, 0.1);
     }
 
     private static double mean(ContDistLognormal dist) {
         double sum = 0.0;
-        for (int i = 0; i < 2000; i++) {
+        for (int i = 0; i < 1000000; i++) {
             sum += dist.sample();
         }
-        return sum / 2000.0;
+        return sum / 1000000.0;
     }
 
     @Test
     public void testMode() {
-        final long mode1 = mode(ContDistLognormal.createWithMeanAndMode(dummyModel(), "test", false, false, 10, 5));
+        final long mode1 = mode(ContDistLognormal.createWithMeanAndMode(TestModels.dummyModel(), "test", false, false, 10, 5));
         assertEquals(mode1, 5);
-        final long mode2 = mode(ContDistLognormal.createWithMeanAndMode(dummyModel(), "test", false, false, 9, 5));
+        final long mode2 = mode(ContDistLognormal.createWithMeanAndMode(TestModels.dummyModel(), "test", false, false, 9, 5));
         assertEquals(mode2, 5);
-        final long mode3 = mode(ContDistLognormal.createWithMeanAndMode(dummyModel(), "test", false, false, 20, 2));
+        final long mode3 = mode(ContDistLognormal.createWithMeanAndMode(TestModels.dummyModel(), "test", false, false, 20, 2));
         assertEquals(mode3, 2);
     }
 
@@ -89,7 +68,7 @@ public class ContDistLognormalTest {
 
     @Test
     public void testSetSeed() {
-        final ContDistLognormal dist = ContDistLognormal.createWithMeanAndMode(dummyModel(), "test", false, false, 20, 2);
+        final ContDistLognormal dist = ContDistLognormal.createWithMeanAndMode(TestModels.dummyModel(), "test", false, false, 20, 2);
         dist.setSeed(500);
         final List<Double> samples1 = sampleNValues(dist, 100);
         final List<Double> samples2 = sampleNValues(dist, 100);
@@ -117,7 +96,7 @@ public class ContDistLognormalTest {
 
     @Test
     public void testChangeRandomGenerator() {
-        final ContDistLognormal dist = ContDistLognormal.createWithMeanAndMode(dummyModel(), "test", false, false, 20, 2);
+        final ContDistLognormal dist = ContDistLognormal.createWithMeanAndMode(TestModels.dummyModel(), "test", false, false, 20, 2);
         dist.changeRandomGenerator(new UniformRandomGenerator() {
             @Override
             public void setSeed(long arg0) {
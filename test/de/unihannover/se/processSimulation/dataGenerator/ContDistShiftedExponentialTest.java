@@ -0,0 +1,53 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ContDistShiftedExponentialTest {
+
+    @Test
+    public void testInverse() {
+        final ContDistShiftedExponential dist = new ContDistShiftedExponential(TestModels.dummyModel(), "test", 5.0, 2.0, false, false);
+        assertEquals(2.0, dist.getInverseOfCumulativeProbabilityFunction(0.0), 0.000001);
+        assertEquals(2.0 + 3.0 * Math.log(2.0), dist.getInverseOfCumulativeProbabilityFunction(0.5), 0.000001);
+    }
+
+    @Test
+    public void testMeanAndMinimum() {
+        checkMeanAndMinimum(5.0, 2.0);
+        checkMeanAndMinimum(10.0, 0.0);
+        checkMeanAndMinimum(3.0, 3.0);
+    }
+
+    private static void checkMeanAndMinimum(double mean, double mode) {
+        final ContDistShiftedExponential dist = new ContDistShiftedExponential(TestModels.dummyModel(), "test", mean, mode, false, false);
+        dist.setSeed(42);
+        double sum = 0.0;
+        for (int i = 0; i < 20000; i++) {
+            final double sample = dist.sample();
+            assertTrue(sample >= mode);
+            sum += sample;
+        }
+        assertEquals(mean, sum / 20000.0, mean / 50.0);
+    }
+
+}
@@ -22,18 +22,26 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.Test;
 
 import co.paralleluniverse.common.util.Pair;
 import de.unihannover.se.processSimulation.common.ParametersFactory;
 import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.BatchExperimentRunner;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.ExperimentRunner;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.PrePostComparison;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRun.SingleRunCallback;
 import de.unihannover.se.processSimulation.dataGenerator.ExperimentRunSettings.ExperimentRunParameters;
+import de.unihannover.se.processSimulation.preCommitPostCommit.DeveloperEngine;
 
 public class ExperimentRunTest {
 
@@ -66,6 +74,7 @@ public class ExperimentRunTest {
                         bugCountFoundByCustomers,
                         finishedStoryPoints * 2,
                         finishedStoryPoints * 3,
+                        100,
                         1,
                         2,
                         3,
@@ -243,6 +252,150 @@ public class ExperimentRunTest {
         assertTrue(result10.isSummaryStatisticallySignificant());
     }
 
+    private static ExperimentRunner pseudoRandomExperiments() {
+        return (p, mode, resultDir, runId, daysForStartup, daysForMeasurement) -> {
+            final int i = Integer.parseInt(runId);
+            final int noise = (i * 37) % 23;
+            final int modeNoise = (i * 17 + mode.ordinal() * 11) % 9;
+            switch (mode) {
+            case NO_REVIEW:
+                return result(90 + noise, 10 + noise, 5, 20 + noise);
+            case PRE_COMMIT:
+                return result(100 + noise + modeNoise, 12 + noise, 5, 10 + noise);
+            case POST_COMMIT:
+                return result(112 + noise + modeNoise, 11 + noise, 5, 11 + noise);
+            default:
+                throw new AssertionError();
+            }
+        };
+    }
+
+    private static SingleRunCallback recordingCallback(List<String> calls) {
+        return (no, pre, post) -> calls.add(
+                        (no == null ? "-" : Long.toString(no.getFinishedStoryPoints()))
+                        + ";" + pre.getFinishedStoryPoints()
+                        + ";" + post.getFinishedStoryPoints());
+    }
+
+    @Test
+    public void testParallelExecutionGivesSameResultsAsSequential() {
+        final BulkParameterFactory f = BulkParameterFactory.forCommercial();
+        final ExperimentRunSettings settings = ExperimentRunSettings.defaultSettings()
+                        .copyWithChangedParam(ExperimentRunParameters.MIN_RUNS, 9)
+                        .copyWithChangedParam(ExperimentRunParameters.MAX_RUNS, 60)
+                        .copyWithChangedParam(ExperimentRunParameters.CONFIDENCE_P, 0.05);
+
+        final List<String> callsSequential = new ArrayList<>();
+        final ExperimentRun sequential = ExperimentRun.perform(settings, pseudoRandomExperiments(), f, recordingCallback(callsSequential));
+        final List<String> callsParallel = new ArrayList<>();
+        final ExperimentRun parallel = ExperimentRun.perform(settings, pseudoRandomExperiments(), f, recordingCallback(callsParallel), 4);
+
+        assertTrue(sequential.getNumberOfTrials() > 9);
+        assertTrue(sequential.getNumberOfTrials() < 60);
+        assertEquals(sequential.getNumberOfTrials(), parallel.getNumberOfTrials());
+        assertEquals(callsSequential, callsParallel);
+        assertEquals(sequential.getFactorStoryPoints(), parallel.getFactorStoryPoints());
+        assertEquals(sequential.getFactorNoReview(), parallel.getFactorNoReview());
+        assertEquals(sequential.getSummary(), parallel.getSummary());
+    }
+
+    private static final class StubBatchRunner implements BatchExperimentRunner {
+        private final EnumMap<ReviewMode, Integer> batchCounts = new EnumMap<>(ReviewMode.class);
+        private final Set<Long> seeds = new HashSet<>();
+
+        @Override
+        public ExperimentResult runExperiment(
+                        ParametersFactory p, ReviewMode mode, File resultDir, String runId, int daysForStartup, int daysForMeasurement) {
+            this.seeds.add(p.getSeed());
+            //the batches of a long run are autocorrelated, therefore the noise depends on the previous batch
+            final int batch = this.batchCounts.merge(mode, 1, Integer::sum);
+            final int noise = ((batch * 37) % 23 + ((batch - 1) * 37) % 23) / 2;
+            final int modeNoise = (batch * 17 + mode.ordinal() * 11) % 9;
+            switch (mode) {
+            case NO_REVIEW:
+                return result(90 + noise, 10 + noise, 5, 20 + noise);
+            case PRE_COMMIT:
+                return result(100 + noise + modeNoise, 12 + noise, 5, 10 + noise);
+            case POST_COMMIT:
+                return result(112 + noise + modeNoise, 11 + noise, 5, 11 + noise);
+            default:
+                throw new AssertionError();
+            }
+        }
+    }
+
+    @Test
+    public void testBatchMeansKeepSeedAndUseBatchRunnerWithStubData() {
+        final BulkParameterFactory f = BulkParameterFactory.forCommercial();
+        final ExperimentRunSettings settings = ExperimentRunSettings.defaultSettings()
+                        .copyWithChangedParam(ExperimentRunParameters.MIN_RUNS, 9)
+                        .copyWithChangedParam(ExperimentRunParameters.MAX_RUNS, 60)
+                        .copyWithChangedParam(ExperimentRunParameters.CONFIDENCE_P, 0.05);
+
+        final ExperimentRun replications = ExperimentRun.perform(settings, pseudoRandomExperiments(), f, dummyCallback());
+        final StubBatchRunner batchRunner = new StubBatchRunner();
+        final ExperimentRun batches = ExperimentRun.perform(
+                        settings.copyWithChangedParam(ExperimentRunParameters.BATCH_MEANS, 1), batchRunner, f, dummyCallback(), 4);
+
+        assertEquals(Collections.singleton(f.getSeed()), batchRunner.seeds);
+        assertEquals(batches.getNumberOfTrials(), (int) batchRunner.batchCounts.get(ReviewMode.POST_COMMIT));
+        assertTrue(batches.getNumberOfTrials() < 60);
+        assertEquals(PrePostComparison.POST_BETTER, replications.getSignificantSummary().getStoryPointsResult());
+        assertEquals(replications.getSignificantSummary(), batches.getSignificantSummary());
+    }
+
+    @Test
+    public void testBatchMeansRunnerReportsStartupPhaseAsWarmUp() {
+        final BulkParameterFactory f = BulkParameterFactory.forCommercial();
+        try (BatchMeansExperimentRunner runner =
+                        new BatchMeansExperimentRunner(EngineSettings.defaultSettings().withDeveloperEngine(DeveloperEngine.EVENTS))) {
+            final ExperimentResult first = runner.runExperiment(f, ReviewMode.PRE_COMMIT, null, "0", 20, 10);
+            final ExperimentResult second = runner.runExperiment(f, ReviewMode.PRE_COMMIT, null, "1", 20, 10);
+            assertEquals(20 * 8, first.getWarmUpHours());
+            assertEquals(20 * 8, second.getWarmUpHours());
+            assertEquals(10 * 8, second.getElapsedHours());
+            assertFalse(first.hadError());
+            assertFalse(second.hadError());
+        }
+    }
+
+    private static void assertSimilar(MedianWithConfidenceInterval expected, MedianWithConfidenceInterval actual, double relativeTolerance) {
+        final double allowed = relativeTolerance * Math.abs(expected.getMedian());
+        assertEquals(expected.getMedian(), actual.getMedian(), allowed);
+    }
+
+    @Test
+    public void testBatchMeansGivesSimilarResultsAsIndependentReplicationsWithRealModel() {
+        final EngineSettings engine = EngineSettings.defaultSettings().withDeveloperEngine(DeveloperEngine.EVENTS);
+        final BulkParameterFactory f = BulkParameterFactory.forCommercial();
+        final ExperimentRunSettings settings = fixedRunCountSettings(15)
+                        .copyWithChangedParam(ExperimentRunParameters.WORKING_DAYS_FOR_STARTUP, 60)
+                        .copyWithChangedParam(ExperimentRunParameters.WORKING_DAYS_FOR_MEASUREMENT, 60);
+
+        final ExperimentRun replications = ExperimentRun.perform(settings, DataGenerator.runner(engine), f, dummyCallback());
+        final ExperimentRun batches;
+        try (BatchMeansExperimentRunner runner = new BatchMeansExperimentRunner(engine)) {
+            batches = ExperimentRun.perform(
+                            settings.copyWithChangedParam(ExperimentRunParameters.BATCH_MEANS, 1), runner, f, dummyCallback());
+        }
+
+        //both estimate the same steady state, the medians of 15 runs/batches should differ by less than 10 %
+        for (final ReviewMode mode : ReviewMode.values()) {
+            assertSimilar(replications.getFinishedStoryPointsMedian(mode), batches.getFinishedStoryPointsMedian(mode), 0.1);
+            assertSimilar(replications.getStoryCycleTimeMeanMedian(mode), batches.getStoryCycleTimeMeanMedian(mode), 0.1);
+        }
+        assertEquals(replications.getNumberOfTrials(), batches.getNumberOfTrials());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchMeansNeedBatchRunner() {
+        ExperimentRun.perform(
+                        fixedRunCountSettings(9).copyWithChangedParam(ExperimentRunParameters.BATCH_MEANS, 1),
+                        pseudoRandomExperiments(),
+                        BulkParameterFactory.forCommercial(),
+                        dummyCallback());
+    }
+
     @Test
     public void testInsignificantNegligibleDifference() {
         final BulkParameterFactory f = BulkParameterFactory.forCommercial();
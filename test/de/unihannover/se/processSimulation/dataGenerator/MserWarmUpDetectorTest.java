@@ -0,0 +1,65 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class MserWarmUpDetectorTest {
+
+    @Test
+    public void testNoTruncationForStationarySeries() {
+        final MserWarmUpDetector d = new MserWarmUpDetector();
+        final Random r = new Random(123);
+        for (int i = 0; i < 200; i++) {
+            d.addObservation(10.0 + r.nextGaussian());
+        }
+        assertTrue(d.getTruncationPoint() < 50);
+        assertTrue(d.isSteadyStateReached(100));
+        assertFalse(d.isSteadyStateReached(500));
+    }
+
+    @Test
+    public void testTransientIsTruncated() {
+        final MserWarmUpDetector d = new MserWarmUpDetector();
+        final Random r = new Random(123);
+        for (int i = 0; i < 50; i++) {
+            d.addObservation(i + 0.1 * r.nextGaussian());
+        }
+        for (int i = 0; i < 250; i++) {
+            d.addObservation(50.0 + 0.1 * r.nextGaussian());
+        }
+        assertEquals(50, d.getTruncationPoint());
+        assertTrue(d.isSteadyStateReached(100));
+    }
+
+    @Test
+    public void testSeriesStillGrowingIsNotSteady() {
+        final MserWarmUpDetector d = new MserWarmUpDetector();
+        for (int i = 0; i < 200; i++) {
+            d.addObservation(i);
+        }
+        assertFalse(d.isSteadyStateReached(100));
+    }
+
+}
@@ -0,0 +1,112 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.preCommitPostCommit.DeveloperEngine;
+
+public class ReusableExperimentTest {
+
+    private static final int STARTUP_DAYS = 20;
+    private static final int MEASUREMENT_DAYS = 30;
+
+    private static EngineSettings engine(DeveloperEngine developerEngine) {
+        return EngineSettings.defaultSettings().withDeveloperEngine(developerEngine);
+    }
+
+    private static void assertSameResult(ExperimentResult expected, ExperimentResult actual) {
+        assertFalse(expected.hadError());
+        assertFalse(actual.hadError());
+        assertEquals(expected.getFinishedStoryPoints(), actual.getFinishedStoryPoints());
+        assertEquals(expected.getStartedStoryCount(), actual.getStartedStoryCount());
+        assertEquals(expected.getFinishedStoryCount(), actual.getFinishedStoryCount());
+        assertEquals(expected.getIssueCountFoundByCustomers(), actual.getIssueCountFoundByCustomers());
+        assertEquals(expected.getInvestedPersonHours(), actual.getInvestedPersonHours());
+        assertEquals(expected.getElapsedHours(), actual.getElapsedHours());
+        assertEquals(expected.getWarmUpHours(), actual.getWarmUpHours());
+        assertEquals(expected.getConflictCount(), actual.getConflictCount());
+        assertEquals(expected.getGlobalIssueCount(), actual.getGlobalIssueCount());
+        assertEquals(expected.getStoryCycleTimeMean(), actual.getStoryCycleTimeMean(), 0.0);
+        assertEquals(expected.getWastedTimeTaskSwitch(), actual.getWastedTimeTaskSwitch(), 0.0);
+        assertEquals(expected.getTotalImplementationTime(), actual.getTotalImplementationTime(), 0.0);
+        assertEquals(expected.getTotalReviewTime(), actual.getTotalReviewTime(), 0.0);
+        assertEquals(expected.getTotalIssueFixingTime(), actual.getTotalIssueFixingTime(), 0.0);
+        assertEquals(expected.getAvgReviewRoundCount(), actual.getAvgReviewRoundCount(), 0.0);
+    }
+
+    /**
+     * Runs several replications on one reused experiment and compares each of them to a normal run of
+     * {@link DataGenerator#runExperiment} with the same seed. The seed of the first replication is repeated at the
+     * end, so that every replication is checked to not depend on its predecessors.
+     */
+    private static void checkReplicationsGiveSameResultsAsFreshRuns(DeveloperEngine developerEngine, ReviewMode mode) {
+        final EngineSettings engine = engine(developerEngine);
+        final BulkParameterFactory p1 = BulkParameterFactory.forCommercial();
+        final BulkParameterFactory p2 = p1.copyWithChangedSeed();
+        final BulkParameterFactory p3 = p2.copyWithChangedSeed();
+
+        final ReusableExperiment exp = new ReusableExperiment(engine, p1, mode, "reused", "reused");
+        try {
+            for (final BulkParameterFactory p : Arrays.asList(p1, p2, p3, p1)) {
+                final ExperimentResult expected =
+                                DataGenerator.runExperiment(engine, p, mode, null, "fresh", STARTUP_DAYS, MEASUREMENT_DAYS);
+                assertSameResult(expected, exp.runReplication(p.getSeed(), STARTUP_DAYS, MEASUREMENT_DAYS));
+            }
+        } finally {
+            exp.finish();
+        }
+    }
+
+    @Test
+    public void testEventsPreCommit() {
+        checkReplicationsGiveSameResultsAsFreshRuns(DeveloperEngine.EVENTS, ReviewMode.PRE_COMMIT);
+    }
+
+    @Test
+    public void testEventsPostCommit() {
+        checkReplicationsGiveSameResultsAsFreshRuns(DeveloperEngine.EVENTS, ReviewMode.POST_COMMIT);
+    }
+
+    @Test
+    public void testEventsNoReview() {
+        checkReplicationsGiveSameResultsAsFreshRuns(DeveloperEngine.EVENTS, ReviewMode.NO_REVIEW);
+    }
+
+    @Test
+    public void testProcessesPreCommit() {
+        checkReplicationsGiveSameResultsAsFreshRuns(DeveloperEngine.PROCESSES, ReviewMode.PRE_COMMIT);
+    }
+
+    @Test
+    public void testProcessesPostCommit() {
+        checkReplicationsGiveSameResultsAsFreshRuns(DeveloperEngine.PROCESSES, ReviewMode.POST_COMMIT);
+    }
+
+    @Test
+    public void testProcessesNoReview() {
+        checkReplicationsGiveSameResultsAsFreshRuns(DeveloperEngine.PROCESSES, ReviewMode.NO_REVIEW);
+    }
+
+}
@@ -19,6 +19,9 @@ package de.unihannover.se.processSimulation.dataGenerator;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.Test;
 
 public class StatisticsUtilTest {
@@ -76,4 +79,34 @@ public class StatisticsUtilTest {
         assertEquals(median(50.0, 40.0, 60.0), StatisticsUtil.median(createNumbers(99), 0.05));
         assertEquals(median(500.0, 469.0, 531.0), StatisticsUtil.median(createNumbers(999), 0.05));
     }
+
+    @Test
+    public void testIncrementalMedianIsSameAsMedianOfWholeData() {
+        final Random r = new Random(42);
+        final OrderStatistics incremental = new OrderStatistics();
+        final double[] all = new double[200];
+        for (int i = 0; i < all.length; i++) {
+            //use few distinct values to have lots of duplicates
+            all[i] = r.nextInt(30) - 10.0;
+            incremental.add(all[i]);
+            if (i >= 8) {
+                final double[] copy = Arrays.copyOf(all, i + 1);
+                assertEquals(StatisticsUtil.median(copy.clone(), 0.05), incremental.median(0.05));
+                assertEquals(StatisticsUtil.median(copy, 0.01), incremental.median(0.01));
+            }
+        }
+        assertEquals(all.length, incremental.size());
+    }
+
+    @Test
+    public void testPrecomputedRanksGiveSameResultAsOnDemandComputation() {
+        StatisticsUtil.precomputeConfidenceRanks(40, 0.02);
+        for (int n = 9; n < 120; n++) {
+            final double[] data = createNumbers(n);
+            assertEquals(
+                    median(StatisticsUtil.median(data, 0.02).getMedian(),
+                                    StatisticsUtil.qBinom(0.01, n, 0.5), Math.min(StatisticsUtil.qBinom(0.99, n, 0.5) + 1, n)),
+                    StatisticsUtil.median(data, 0.02));
+        }
+    }
 }
@@ -0,0 +1,55 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import java.util.ArrayList;
+
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.Model;
+
+/**
+ * Helpers to create DESMO-J models for tests of single distributions.
+ */
+final class TestModels {
+
+    private TestModels() {
+    }
+
+    /**
+     * Returns a model without behaviour that is connected to an experiment, so that distributions can be created for it.
+     */
+    static Model dummyModel() {
+        final Model ret = new Model(null, "name", false, false) {
+            @Override
+            public String description() {
+                return "desc";
+            }
+            @Override
+            public void doInitialSchedules() {
+            }
+            @Override
+            public void init() {
+            }
+        };
+        final Experiment exp = new Experiment("Experiment",
+                        ".\\dummy", null, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        ret.connectToExperiment(exp);
+        return ret;
+    }
+
+}
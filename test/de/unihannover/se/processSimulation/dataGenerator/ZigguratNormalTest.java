@@ -0,0 +1,67 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.dataGenerator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ZigguratNormalTest {
+
+    @Test
+    public void testMoments() {
+        final Random r = new Random(123);
+        final int n = 200000;
+        double sum = 0.0;
+        double sumSq = 0.0;
+        for (int i = 0; i < n; i++) {
+            final double x = ZigguratNormal.sample(r::nextDouble);
+            sum += x;
+            sumSq += x * x;
+        }
+        assertEquals(0.0, sum / n, 0.01);
+        assertEquals(1.0, sumSq / n, 0.02);
+    }
+
+    @Test
+    public void testQuantiles() {
+        final Random r = new Random(456);
+        final int n = 200000;
+        int belowMinusOne = 0;
+        int aboveTwo = 0;
+        int aboveTailStart = 0;
+        for (int i = 0; i < n; i++) {
+            final double x = ZigguratNormal.sample(r::nextDouble);
+            if (x < -1.0) {
+                belowMinusOne++;
+            }
+            if (x > 2.0) {
+                aboveTwo++;
+            }
+            if (x > 3.5) {
+                aboveTailStart++;
+            }
+        }
+        assertEquals(0.158655, ((double) belowMinusOne) / n, 0.003);
+        assertEquals(0.022750, ((double) aboveTwo) / n, 0.001);
+        assertEquals(0.000233, ((double) aboveTailStart) / n, 0.0001);
+    }
+
+}
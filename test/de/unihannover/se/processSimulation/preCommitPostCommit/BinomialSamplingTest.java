@@ -0,0 +1,88 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BinomialSamplingTest {
+
+    private static void checkMeanAndVariance(int n, double p) {
+        final Random random = new Random(42);
+        final int samples = 20000;
+        double sum = 0.0;
+        double sumOfSquares = 0.0;
+        for (int i = 0; i < samples; i++) {
+            final int count = BinomialSampling.sampleCount(random::nextDouble, n, p);
+            assertTrue(count >= 0 && count <= n);
+            sum += count;
+            sumOfSquares += ((double) count) * count;
+        }
+        final double mean = sum / samples;
+        final double variance = sumOfSquares / samples - mean * mean;
+        final double expectedMean = n * p;
+        final double expectedVariance = n * p * (1.0 - p);
+        assertEquals(expectedMean, mean, 5.0 * Math.sqrt(expectedVariance / samples) + 1e-9);
+        assertEquals(expectedVariance, variance, 0.05 * expectedVariance + 1e-9);
+    }
+
+    @Test
+    public void testSmallCountWithSmallProbability() {
+        checkMeanAndVariance(10, 0.05);
+    }
+
+    @Test
+    public void testSmallCountWithHighProbability() {
+        checkMeanAndVariance(7, 0.8);
+    }
+
+    @Test
+    public void testLargeCountSplitIntoSeveralInversions() {
+        checkMeanAndVariance(1234, 0.5);
+    }
+
+    @Test
+    public void testDegenerateCases() {
+        final Random random = new Random(42);
+        assertEquals(0, BinomialSampling.sampleCount(random::nextDouble, 0, 0.5));
+        assertEquals(0, BinomialSampling.sampleCount(random::nextDouble, 10, 0.0));
+        assertEquals(10, BinomialSampling.sampleCount(random::nextDouble, 10, 1.0));
+    }
+
+    @Test
+    public void testChosenIndicesAreUniformAndDistinct() {
+        final Random random = new Random(42);
+        final int[] timesChosen = new int[5];
+        final int samples = 50000;
+        for (int i = 0; i < samples; i++) {
+            final int[] chosen = BinomialSampling.chooseIndices(random::nextDouble, 5, 2);
+            assertEquals(2, chosen.length);
+            assertTrue(chosen[0] < chosen[1]);
+            timesChosen[chosen[0]]++;
+            timesChosen[chosen[1]]++;
+        }
+        for (final int count : timesChosen) {
+            assertEquals(samples * 2.0 / 5.0, count, 500.0);
+        }
+    }
+
+}
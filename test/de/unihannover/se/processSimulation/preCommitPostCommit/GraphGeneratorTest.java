@@ -18,13 +18,14 @@
 package de.unihannover.se.processSimulation.preCommitPostCommit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.TreeSet;
 
 import org.junit.Test;
 
+import de.unihannover.se.processSimulation.common.XoroshiroRandomGenerator;
 import de.unihannover.se.processSimulation.preCommitPostCommit.GraphGenerator.GraphItemFactory;
-import desmoj.core.dist.MersenneTwisterRandomGenerator;
 
 public class GraphGeneratorTest {
 
@@ -59,7 +60,7 @@ public class GraphGeneratorTest {
     }
 
     private static GraphGenerator createGenerator() {
-        return new GraphGenerator(new MersenneTwisterRandomGenerator(7643));
+        return new GraphGenerator(new XoroshiroRandomGenerator(7643));
     }
 
     @Test
@@ -139,14 +140,20 @@ public class GraphGeneratorTest {
         g.addTemplate("A->B", 1);
         g.addTemplate("A;B", 1);
 
-        final SimpleGraphItemFactory testFactory2 = createFactory();
-        g.generateGraph(testFactory2);
-        assertEquals("nodes: 0 .. 1\n", testFactory2.getResults());
-
-        final SimpleGraphItemFactory testFactory1 = createFactory();
-        g.generateGraph(testFactory1);
-        assertEquals("nodes: 0 .. 1\n"
-                        + "0->1\n", testFactory1.getResults());
+        int withEdge = 0;
+        int withoutEdge = 0;
+        for (int i = 0; i < 100; i++) {
+            final SimpleGraphItemFactory testFactory = createFactory();
+            g.generateGraph(testFactory);
+            if (testFactory.getResults().equals("nodes: 0 .. 1\n0->1\n")) {
+                withEdge++;
+            } else {
+                assertEquals("nodes: 0 .. 1\n", testFactory.getResults());
+                withoutEdge++;
+            }
+        }
+        assertTrue(withEdge > 0);
+        assertTrue(withoutEdge > 0);
     }
 
 }
@@ -34,7 +34,9 @@ import de.unihannover.se.processSimulation.common.ParametersFactory;
 import de.unihannover.se.processSimulation.common.ReviewMode;
 import de.unihannover.se.processSimulation.dataGenerator.BulkParameterFactory;
 import de.unihannover.se.processSimulation.dataGenerator.BulkParameterFactory.ParameterType;
+import de.unihannover.se.processSimulation.dataGenerator.CalendarEventList;
 import desmoj.core.simulator.CoroutineModel;
+import desmoj.core.simulator.EventList;
 import desmoj.core.simulator.Experiment;
 import desmoj.core.simulator.TimeInstant;
 
@@ -45,12 +47,24 @@ public class ReferenceBehaviourTest {
     }
 
     private static PrePostModel runExperiment(ParametersFactory p, ReviewMode mode) throws Exception {
+        return runExperiment(p, mode, DeveloperEngine.PROCESSES);
+    }
+
+    private static PrePostModel runExperiment(ParametersFactory p, ReviewMode mode, DeveloperEngine engine) throws Exception {
+        return runExperiment(p, mode, engine, null);
+    }
+
+    private static PrePostModel runExperiment(
+                    ParametersFactory p, ReviewMode mode, DeveloperEngine engine, Class<? extends EventList> eventListType) throws Exception {
         final int hoursToReset = 8 * 400;
-        final PrePostModel model = new PrePostModel("RealProcessingModel", mode, p, false, hoursToReset);
+        final PrePostModel model = new PrePostModel("RealProcessingModel", mode, engine, p, false, hoursToReset);
         final ArrayList<String> noOutputs = new ArrayList<>();
         final Experiment exp = new Experiment("UnitTest" + mode + "_" + p.hashCode(),
                         ".", null, noOutputs, noOutputs, noOutputs, noOutputs);
         exp.setSeedGenerator(p.getSeed());
+        if (eventListType != null) {
+            exp.setEventList(eventListType);
+        }
         model.connectToExperiment(exp);
 
         exp.setSilent(true);
@@ -103,6 +117,28 @@ public class ReferenceBehaviourTest {
         };
     }
 
+    @Test
+    public void testDeveloperEnginesGiveSameResults() throws Exception {
+        final BulkParameterFactory p = BulkParameterFactory.forCommercial();
+        final PrePostModel withProcesses = runExperiment(p, ReviewMode.PRE_COMMIT);
+        final PrePostModel withEvents = runExperiment(p, ReviewMode.PRE_COMMIT, DeveloperEngine.EVENTS);
+        assertEquals(withProcesses.getFinishedStoryPoints(), withEvents.getFinishedStoryPoints());
+        assertEquals(withProcesses.getStoryCycleTimeMean(), withEvents.getStoryCycleTimeMean(), 0.0);
+        assertEquals(withProcesses.getIssueCountFoundByCustomers(), withEvents.getIssueCountFoundByCustomers());
+        assertEquals(withProcesses.getConflictCount(), withEvents.getConflictCount());
+    }
+
+    @Test
+    public void testCalendarEventListGivesSameResults() throws Exception {
+        final BulkParameterFactory p = BulkParameterFactory.forCommercial();
+        final PrePostModel withTree = runExperiment(p, ReviewMode.POST_COMMIT);
+        final PrePostModel withCalendar = runExperiment(p, ReviewMode.POST_COMMIT, DeveloperEngine.PROCESSES, CalendarEventList.class);
+        assertEquals(withTree.getFinishedStoryPoints(), withCalendar.getFinishedStoryPoints());
+        assertEquals(withTree.getStoryCycleTimeMean(), withCalendar.getStoryCycleTimeMean(), 0.0);
+        assertEquals(withTree.getIssueCountFoundByCustomers(), withCalendar.getIssueCountFoundByCustomers());
+        assertEquals(withTree.getConflictCount(), withCalendar.getConflictCount());
+    }
+
     @Test
     public void testWhenAllRelevantEffectsAreOffThereIsNoDifference() throws Exception {
         final BulkParameterFactory p = BulkParameterFactory
@@ -39,11 +39,11 @@ public class SourceRepositoryTest {
     private static final class StubSourceRepositoryDependencies implements SourceRepositoryDependencies {
 
         private long time;
-        private final boolean conflict;
+        private final long nonConflictingCommitCount;
         private final StringBuilder traces;
 
-        public StubSourceRepositoryDependencies(boolean conflict) {
-            this.conflict = conflict;
+        public StubSourceRepositoryDependencies(long nonConflictingCommitCount) {
+            this.nonConflictingCommitCount = nonConflictingCommitCount;
             this.traces = new StringBuilder();
         }
 
@@ -53,8 +53,13 @@ public class SourceRepositoryTest {
         }
 
         @Override
-        public boolean sampleConflictDist() {
-            return this.conflict;
+        public long sampleNonConflictingCommitCount() {
+            return this.nonConflictingCommitCount;
+        }
+
+        @Override
+        public boolean traceIsOn() {
+            return true;
         }
 
         @Override
@@ -86,11 +91,11 @@ public class SourceRepositoryTest {
     }
 
     private static StubSourceRepositoryDependencies createDepsNoConflicts() {
-        return new StubSourceRepositoryDependencies(false);
+        return new StubSourceRepositoryDependencies(Long.MAX_VALUE);
     }
 
     private static StubSourceRepositoryDependencies createDepsConflictsAlways() {
-        return new StubSourceRepositoryDependencies(true);
+        return new StubSourceRepositoryDependencies(0);
     }
 
     @Test
@@ -156,6 +161,26 @@ public class SourceRepositoryTest {
                         deps.getTraces());
     }
 
+    @Test
+    public void testConflictAfterSkippedCommits() {
+        final StubSourceRepositoryDependencies deps = new StubSourceRepositoryDependencies(1);
+        final SourceRepository<StubTask> r = new SourceRepository<>(deps);
+        final StubTask t1 = new StubTask("t1");
+        final StubTask t2 = new StubTask("t2");
+        final StubTask t3 = new StubTask("t3");
+        r.startWork(t1);
+        r.startWork(t2);
+        r.startWork(t3);
+        deps.incrementTime();
+        assertTrue(r.tryCommit(t1));
+        deps.incrementTime();
+        assertTrue(r.tryCommit(t2));
+        deps.incrementTime();
+        assertFalse(r.tryCommit(t3));
+        assertEquals("conflict between t3 and t2\n",
+                        deps.getTraces());
+    }
+
     @Test
     public void testNoConflictWithSequentialTasks() {
         final StubSourceRepositoryDependencies deps = createDepsConflictsAlways();
@@ -0,0 +1,81 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TopicMemoryTest {
+
+    @Test
+    public void testUnknownKey() {
+        final TopicMemory m = new TopicMemory(Long.MAX_VALUE);
+        assertEquals(TopicMemory.NEVER, m.get(0, 5));
+        m.put(1, 5);
+        assertEquals(TopicMemory.NEVER, m.get(0, 5));
+        assertEquals(TopicMemory.NEVER, m.get(2, 5));
+    }
+
+    @Test
+    public void testUpdate() {
+        final TopicMemory m = new TopicMemory(Long.MAX_VALUE);
+        m.put(3, 5);
+        m.put(3, 7);
+        assertEquals(7, m.get(3, 7));
+        assertEquals(1, m.size());
+    }
+
+    @Test
+    public void testGrowsWhenNothingCanBeForgotten() {
+        final TopicMemory m = new TopicMemory(Long.MAX_VALUE);
+        for (int i = 0; i < 1000; i++) {
+            m.put(i, i);
+        }
+        assertEquals(1000, m.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, m.get(i, 999));
+        }
+    }
+
+    @Test
+    public void testOldEntriesAreForgotten() {
+        final TopicMemory m = new TopicMemory(10);
+        for (int i = 0; i < 100000; i++) {
+            m.put(i, i);
+        }
+        assertTrue(m.size() < 100);
+        for (int i = 99990; i < 100000; i++) {
+            assertEquals(i, m.get(i, 99999));
+        }
+        assertEquals(TopicMemory.NEVER, m.get(5, 99999));
+    }
+
+    @Test
+    public void testEntriesOlderThanHorizonAreForgottenWithoutRehash() {
+        final TopicMemory m = new TopicMemory(10);
+        m.put(1, 0);
+        m.put(2, 5);
+        assertEquals(0, m.get(1, 10));
+        assertEquals(TopicMemory.NEVER, m.get(1, 11));
+        assertEquals(5, m.get(2, 11));
+        assertEquals(2, m.size());
+    }
+
+}
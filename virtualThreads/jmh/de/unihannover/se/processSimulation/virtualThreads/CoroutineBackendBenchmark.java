@@ -0,0 +1,126 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.virtualThreads;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.dataGenerator.BulkParameterFactory;
+import de.unihannover.se.processSimulation.dataGenerator.DataGenerator;
+import de.unihannover.se.processSimulation.dataGenerator.EngineSettings;
+import de.unihannover.se.processSimulation.dataGenerator.ExperimentRunSettings;
+import de.unihannover.se.processSimulation.dataGenerator.ExperimentRunSettings.ExperimentRunParameters;
+import de.unihannover.se.processSimulation.preCommitPostCommit.DeveloperEngine;
+import desmoj.core.simulator.CoroutineModel;
+import desmoj.core.simulator.Experiment;
+
+/**
+ * Compares the process-oriented developers running on Quasar fibers with the virtual thread engine, using the
+ * workload of one replication in {@link de.unihannover.se.processSimulation.dataGenerator.BulkFileExecutor}
+ * (pre and post commit run with the default run settings). The event engine, which needs no coroutines at all,
+ * is included as baseline.
+ * "startup" measures the first replication in a fresh JVM, "throughput" the replications per minute after warm-up.
+ *
+ * The fibers need the Quasar agent in the forked JVMs, its path has to be given in the system property "quasarAgent".
+ */
+@State(Scope.Benchmark)
+public class CoroutineBackendBenchmark {
+
+    @Param({"FIBERS", "VIRTUAL_THREADS", "EVENTS"})
+    public String backend;
+
+    private BulkParameterFactory parameters;
+    private EngineSettings engine;
+    private int daysForStartup;
+    private int daysForMeasurement;
+
+    @Setup
+    public void setUp() {
+        if (this.backend.equals("FIBERS")) {
+            Experiment.setCoroutineModel(CoroutineModel.FIBERS);
+            this.engine = EngineSettings.defaultSettings().withDeveloperEngine(DeveloperEngine.PROCESSES);
+        } else {
+            this.engine = EngineSettings.defaultSettings().withDeveloperEngine(DeveloperEngine.byName(this.backend));
+        }
+        this.parameters = BulkParameterFactory.forCommercial();
+        final ExperimentRunSettings settings = ExperimentRunSettings.defaultSettings();
+        this.daysForStartup = (int) settings.get(ExperimentRunParameters.WORKING_DAYS_FOR_STARTUP);
+        this.daysForMeasurement = (int) settings.get(ExperimentRunParameters.WORKING_DAYS_FOR_MEASUREMENT);
+    }
+
+    private double runReplication() {
+        this.parameters = this.parameters.copyWithChangedSeed();
+        return DataGenerator.runExperiment(this.engine,
+                        this.parameters, ReviewMode.PRE_COMMIT, null, "pre", this.daysForStartup, this.daysForMeasurement).getFinishedStoryPoints()
+            + DataGenerator.runExperiment(this.engine,
+                        this.parameters, ReviewMode.POST_COMMIT, null, "post", this.daysForStartup, this.daysForMeasurement).getFinishedStoryPoints();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(5)
+    public double startup() {
+        return this.runReplication();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MINUTES)
+    @Warmup(iterations = 3, time = 20)
+    @Measurement(iterations = 5, time = 20)
+    @Fork(1)
+    public double throughput() {
+        return this.runReplication();
+    }
+
+    public static void main(String[] args) throws Exception {
+        final String quasarAgent = System.getProperty("quasarAgent");
+        if (quasarAgent == null) {
+            throw new IllegalStateException("The path of the Quasar agent (quasar-core jar) is missing, "
+                            + "start with gradle -p virtualThreads jmh -PquasarAgent=<path>");
+        }
+        for (final String backend : new String[] {"FIBERS", "VIRTUAL_THREADS", "EVENTS"}) {
+            final ChainedOptionsBuilder options = new OptionsBuilder()
+                            .include(CoroutineBackendBenchmark.class.getSimpleName())
+                            .param("backend", backend);
+            if (backend.equals("FIBERS")) {
+                options.jvmArgsAppend("-javaagent:" + quasarAgent);
+            }
+            new Runner(options.build()).run();
+        }
+    }
+
+}
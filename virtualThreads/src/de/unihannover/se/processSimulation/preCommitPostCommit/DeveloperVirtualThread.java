@@ -0,0 +1,136 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+import java.util.concurrent.Semaphore;
+
+import desmoj.core.simulator.ExternalEvent;
+import desmoj.core.simulator.TimeSpan;
+
+/**
+ * Executes the activities of a {@link Developer} in a JDK virtual thread, i.e. as a coroutine in the same
+ * style as a DESMO-J process, but without the need for Quasar's java agent.
+ *
+ * Only one of the simulation thread and the developer's thread runs at a time: When the event for the developer
+ * occurs, the simulation thread resumes the developer's thread and waits until it has to wait again (hold/passivate).
+ * When an activity fails, the error is handed to the simulation thread and thrown there, like for a DESMO-J process.
+ */
+class DeveloperVirtualThread extends ExternalEvent implements Developer.Driver {
+
+    /**
+     * Thrown in the developer's thread to end it when the developer is terminated.
+     */
+    private static final class Terminated extends Error {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private final Developer developer;
+    private final Semaphore developerMayRun = new Semaphore(0);
+    private final Semaphore simulationMayRun = new Semaphore(0);
+    private Thread thread;
+    private volatile boolean terminated;
+    private volatile Throwable failure;
+    private boolean restarting;
+
+    public DeveloperVirtualThread(PrePostModel owner, Developer developer) {
+        super(owner, "developer", true);
+        this.developer = developer;
+    }
+
+    @Override
+    public void activate() {
+        this.schedule(new TimeSpan(0));
+    }
+
+    @Override
+    public void eventRoutine() {
+        if (this.failure == null) {
+            if (this.thread == null) {
+                this.thread = Thread.ofVirtual().name(this.developer.toString()).start(this::lifeCycle);
+            } else {
+                this.developerMayRun.release();
+            }
+            this.simulationMayRun.acquireUninterruptibly();
+        }
+        if (this.failure != null) {
+            //the developer's thread has ended, so it must not be resumed again
+            throw propagate(this.failure);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable t) {
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return t instanceof RuntimeException ? (RuntimeException) t : new RuntimeException(t);
+    }
+
+    private void lifeCycle() {
+        try {
+            while (true) {
+                this.restarting = false;
+                final Activity activity = this.developer.nextActivity();
+                while (true) {
+                    final TimeSpan timeToWait = activity.proceed();
+                    if (timeToWait != null) {
+                        this.schedule(timeToWait);
+                        this.yieldToSimulation();
+                    } else if (activity.isFinished()) {
+                        break;
+                    } else {
+                        this.yieldToSimulation();
+                    }
+                    if (this.restarting) {
+                        break;
+                    }
+                }
+            }
+        } catch (final Terminated e) {
+            //developer has been terminated, end the thread
+        } catch (final Throwable e) {
+            //the simulation thread waits for this thread, so it has to be woken up to get the error
+            this.failure = e;
+            this.simulationMayRun.release();
+        }
+    }
+
+    private void yieldToSimulation() {
+        this.simulationMayRun.release();
+        this.developerMayRun.acquireUninterruptibly();
+        if (this.terminated) {
+            throw new Terminated();
+        }
+    }
+
+    @Override
+    public void restart() {
+        //the thread is waiting in yieldToSimulation (if it was started at all), it abandons its activity when resumed
+        if (this.isScheduled()) {
+            this.cancel();
+        }
+        this.restarting = true;
+        this.schedule(new TimeSpan(0));
+    }
+
+    @Override
+    public void terminate() {
+        this.terminated = true;
+        this.developerMayRun.release();
+    }
+
+}
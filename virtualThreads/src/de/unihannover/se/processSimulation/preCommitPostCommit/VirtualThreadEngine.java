@@ -0,0 +1,44 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.preCommitPostCommit;
+
+/**
+ * Provides the engine "VIRTUAL_THREADS" that executes every developer in a {@link DeveloperVirtualThread}.
+ * Registered for the {@link java.util.ServiceLoader}, so that it is found by {@link DeveloperEngine#byName}
+ * when this module is on the classpath.
+ */
+public class VirtualThreadEngine implements DeveloperDriverFactory {
+
+    public static final String NAME = "VIRTUAL_THREADS";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Developer.Driver createDriver(PrePostModel owner, Developer developer) {
+        return new DeveloperVirtualThread(owner, developer);
+    }
+
+    @Override
+    public String toString() {
+        return NAME;
+    }
+
+}
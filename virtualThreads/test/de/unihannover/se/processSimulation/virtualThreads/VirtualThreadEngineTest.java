@@ -0,0 +1,69 @@
+/**
+    This file is part of LUH PrePostReview Process Simulation.
+
+    LUH PrePostReview Process Simulation is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    LUH PrePostReview Process Simulation is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with LUH PrePostReview Process Simulation. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unihannover.se.processSimulation.virtualThreads;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import de.unihannover.se.processSimulation.common.ReviewMode;
+import de.unihannover.se.processSimulation.dataGenerator.BulkParameterFactory;
+import de.unihannover.se.processSimulation.dataGenerator.DataGenerator;
+import de.unihannover.se.processSimulation.dataGenerator.EngineSettings;
+import de.unihannover.se.processSimulation.dataGenerator.ExperimentResult;
+import de.unihannover.se.processSimulation.preCommitPostCommit.DeveloperDriverFactory;
+import de.unihannover.se.processSimulation.preCommitPostCommit.DeveloperEngine;
+import de.unihannover.se.processSimulation.preCommitPostCommit.VirtualThreadEngine;
+
+public class VirtualThreadEngineTest {
+
+    private static ExperimentResult run(DeveloperDriverFactory engine, ReviewMode mode) {
+        return DataGenerator.runExperiment(EngineSettings.defaultSettings().withDeveloperEngine(engine),
+                        BulkParameterFactory.forCommercial(), mode, null, "test", 400, 600);
+    }
+
+    private static void checkSameResultsAsWithEvents(ReviewMode mode) {
+        //the event engine is checked against the process engine in the core's ReferenceBehaviourTest
+        final ExperimentResult withEvents = run(DeveloperEngine.EVENTS, mode);
+        final ExperimentResult withVirtualThreads = run(DeveloperEngine.byName(VirtualThreadEngine.NAME), mode);
+        assertFalse(withVirtualThreads.hadError());
+        assertEquals(withEvents.getFinishedStoryPoints(), withVirtualThreads.getFinishedStoryPoints());
+        assertEquals(withEvents.getStoryCycleTimeMean(), withVirtualThreads.getStoryCycleTimeMean(), 0.0);
+        assertEquals(withEvents.getIssueCountFoundByCustomers(), withVirtualThreads.getIssueCountFoundByCustomers());
+        assertEquals(withEvents.getConflictCount(), withVirtualThreads.getConflictCount());
+        assertEquals(withEvents.getInvestedPersonHours(), withVirtualThreads.getInvestedPersonHours());
+    }
+
+    @Test
+    public void testEngineIsFoundByName() {
+        assertTrue(DeveloperEngine.byName("VIRTUAL_THREADS") instanceof VirtualThreadEngine);
+    }
+
+    @Test
+    public void testSameResultsAsWithEventsPreCommit() {
+        checkSameResultsAsWithEvents(ReviewMode.PRE_COMMIT);
+    }
+
+    @Test
+    public void testSameResultsAsWithEventsPostCommit() {
+        checkSameResultsAsWithEvents(ReviewMode.POST_COMMIT);
+    }
+
+}